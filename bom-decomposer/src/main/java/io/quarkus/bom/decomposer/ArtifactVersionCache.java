@@ -0,0 +1,57 @@
+package io.quarkus.bom.decomposer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+
+/**
+ * Shared concurrent cache of parsed artifact versions, which saves parsing the same version strings
+ * over and over again when sorting and comparing versions of many artifacts.
+ * <p>
+ * Returned instances must not be modified.
+ */
+public class ArtifactVersionCache {
+
+    /**
+     * The maximum number of cached versions, once reached the cache is cleared
+     */
+    private static final int MAX_SIZE = 100_000;
+
+    private static final Map<String, ArtifactVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a parsed version for a version string.
+     *
+     * @param version version string
+     * @return parsed version
+     */
+    public static ArtifactVersion get(String version) {
+        ArtifactVersion v = versions.get(version);
+        if (v == null) {
+            if (versions.size() >= MAX_SIZE) {
+                versions.clear();
+            }
+            v = new DefaultArtifactVersion(version);
+            final ArtifactVersion existing = versions.putIfAbsent(version, v);
+            if (existing != null) {
+                v = existing;
+            }
+        }
+        return v;
+    }
+
+    /**
+     * Compares two version strings.
+     *
+     * @param v1 version string
+     * @param v2 version string
+     * @return the result of comparing the parsed versions
+     */
+    public static int compare(String v1, String v2) {
+        return get(v1).compareTo(get(v2));
+    }
+
+    private ArtifactVersionCache() {
+    }
+}
@@ -16,6 +16,7 @@ import io.quarkus.domino.scm.ScmRevisionResolver;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.maven.model.DistributionManagement;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
@@ -113,6 +114,19 @@ public class BomDecomposer {
             return this;
         }
 
+        /**
+         * Directory to persist decomposition results to, so that decomposing the same BOM with the same
+         * release ID detectors again would not require resolving the revisions of its managed dependencies.
+         * If not set, results will be persisted only if the artifact resolver was initialized with a base directory.
+         *
+         * @param cacheDir decomposition cache directory
+         * @return this instance
+         */
+        public BomDecomposerConfig decompositionCache(Path cacheDir) {
+            decompositionCacheDir = cacheDir;
+            return this;
+        }
+
         public BomDecomposerConfig loadReleaseDetectors(boolean loadReleaseDetectors) {
             this.loadReleaseDetectors = loadReleaseDetectors;
             return this;
@@ -145,6 +159,7 @@ public class BomDecomposer {
     private DecomposedBomBuilder decomposedBuilder;
     private DecomposedBomTransformer transformer;
     private ScmRevisionResolver revisionResolver;
+    private Path decompositionCacheDir;
 
     private ArtifactResolver artifactResolver() {
         try {
@@ -164,10 +179,39 @@ public class BomDecomposer {
         //bomBuilder.bomSource(PomSource.of(resolve(bomArtifact).getFile().toPath()));
         var artifacts = this.artifacts == null ? bomManagedDeps() : this.artifacts;
 
+        final DecompositionCache cache = getDecompositionCache(artifacts);
+        final Map<ArtifactCoords, ScmRevision> revisions = cache == null ? null : new ConcurrentHashMap<>();
+        final Map<ArtifactCoords, Long> unresolved = cache == null ? null : new ConcurrentHashMap<>();
+        Collection<Dependency> unprocessed = artifacts;
+        final DecompositionCache.Entry cached = cache == null ? null : cache.read();
+        if (cached != null) {
+            // dependencies that could not be resolved are looked up again once their records have expired
+            final long now = System.currentTimeMillis();
+            unprocessed = new ArrayList<>();
+            for (Dependency dep : artifacts) {
+                final ArtifactCoords coords = toCoords(dep.getArtifact());
+                final ScmRevision revision = cached.revisions.get(coords);
+                if (revision != null) {
+                    bomBuilder.bomDependency(revision, dep);
+                    revisions.put(coords, revision);
+                } else if (cached.isUnresolved(coords, now)) {
+                    unresolved.put(coords, cached.unresolved.get(coords));
+                } else {
+                    unprocessed.add(dep);
+                }
+            }
+            if (unprocessed.isEmpty()) {
+                logger().debug("Using cached decomposition of %s", bomArtifact);
+                return transformer == null ? bomBuilder.build() : transformer.transform(bomBuilder.build());
+            }
+            logger().debug("Using cached decomposition of %s, looking up %s dependencies again", bomArtifact,
+                    unprocessed.size());
+        }
+
         var scheduler = PlatformGenTaskScheduler.getInstance();
         try {
-            for (Dependency dep : artifacts) {
-                scheduler.schedule(() -> addDependency(bomBuilder, dep));
+            for (Dependency dep : unprocessed) {
+                scheduler.schedule(() -> addDependency(bomBuilder, dep, revisions, unresolved));
             }
             scheduler.waitForCompletion();
         } catch (BomDecomposerException e) {
@@ -181,11 +225,15 @@ public class BomDecomposer {
             }
             throw new BomDecomposerException("Failed to process dependency constraints reported above");
         }
+        if (cache != null) {
+            cache.write(revisions, unresolved);
+        }
 
         return transformer == null ? bomBuilder.build() : transformer.transform(bomBuilder.build());
     }
 
-    private void addDependency(DecomposedBomBuilder bomBuilder, Dependency dep) throws BomDecomposerException {
+    private void addDependency(DecomposedBomBuilder bomBuilder, Dependency dep, Map<ArtifactCoords, ScmRevision> revisions,
+            Map<ArtifactCoords, Long> unresolved) throws BomDecomposerException {
         try {
             // filter out dependencies that can't be resolved
             // if an artifact has a classifier we resolve the artifact itself
@@ -193,12 +241,34 @@ public class BomDecomposer {
             validateArtifact(dep.getArtifact());
             final ScmRevision revision = resolveRevision(dep.getArtifact());
             bomBuilder.bomDependency(revision, dep);
+            if (revisions != null) {
+                revisions.put(toCoords(dep.getArtifact()), revision);
+            }
         } catch (ArtifactNotFoundException e) {
             // there are plenty of BOMs that include artifacts that don't exist
             logger().debug("Failed to resolve %s", dep);
+            if (unresolved != null) {
+                unresolved.put(toCoords(dep.getArtifact()), System.currentTimeMillis());
+            }
         }
     }
 
+    private DecompositionCache getDecompositionCache(Collection<Dependency> artifacts) {
+        Path cacheDir = decompositionCacheDir;
+        if (cacheDir == null) {
+            final Path baseDir = artifactResolver().getBaseDir();
+            if (baseDir == null) {
+                return null;
+            }
+            cacheDir = baseDir.resolve(".quarkus-bom-generator").resolve("decomposed-boms");
+        }
+        return new DecompositionCache(cacheDir, bomArtifact, artifacts, releaseDetectors);
+    }
+
+    private static ArtifactCoords toCoords(Artifact a) {
+        return ArtifactCoords.of(a.getGroupId(), a.getArtifactId(), a.getClassifier(), a.getExtension(), a.getVersion());
+    }
+
     private ScmRevision resolveRevision(Artifact artifact) throws BomDecomposerException {
         return revisionResolver.resolveRevision(artifact, List.of());
     }
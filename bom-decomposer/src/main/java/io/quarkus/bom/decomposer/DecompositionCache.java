@@ -0,0 +1,209 @@
+package io.quarkus.bom.decomposer;
+
+import io.quarkus.domino.scm.ScmRepository;
+import io.quarkus.domino.scm.ScmRevision;
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.Dependency;
+
+/**
+ * Persistent cache of BOM decomposition results, i.e. the SCM revisions the managed dependencies of a BOM were
+ * mapped to. An entry is keyed by the BOM coordinates, the coordinates of its managed dependencies and the
+ * release ID detectors used to decompose it, including their configuration (see {@link ReleaseIdDetector#getCacheKey()}).
+ * <p>
+ * Entries are stored under {@code <cache-dir>/<groupId>/<artifactId>/<version>/<key>.txt}, each line including
+ * a dependency's coordinates, the kind and the value of its revision and the repository of the revision.
+ * Dependencies that could not be resolved are recorded along with the time they were found missing and are looked up
+ * again once {@link #UNRESOLVED_TTL} has passed, since they may have been published in the meantime.
+ * BOMs managing SNAPSHOT artifacts are not cached.
+ */
+class DecompositionCache {
+
+    private static final String REPO_URL_PREFIX = "url:";
+    private static final String REPO_ID_PREFIX = "id:";
+    private static final String UNRESOLVED = "UNRESOLVED";
+
+    /**
+     * Period of time after which a dependency that could not be resolved will be looked up again
+     */
+    static final Duration UNRESOLVED_TTL = Duration.ofDays(7);
+
+    /**
+     * Cached decomposition of a BOM
+     */
+    static class Entry {
+
+        final Map<ArtifactCoords, ScmRevision> revisions;
+        final Map<ArtifactCoords, Long> unresolved;
+
+        Entry(Map<ArtifactCoords, ScmRevision> revisions, Map<ArtifactCoords, Long> unresolved) {
+            this.revisions = revisions;
+            this.unresolved = unresolved;
+        }
+
+        /**
+         * Checks whether a dependency has been recorded as unresolved and the record hasn't expired yet.
+         *
+         * @param coords dependency coordinates
+         * @param now current time in milliseconds
+         * @return true if the dependency should still be considered unresolved
+         */
+        boolean isUnresolved(ArtifactCoords coords, long now) {
+            final Long timestamp = unresolved.get(coords);
+            return timestamp != null && now - timestamp <= UNRESOLVED_TTL.toMillis();
+        }
+    }
+
+    private final Path cacheFile;
+
+    DecompositionCache(Path cacheDir, Artifact bomArtifact, Collection<Dependency> deps,
+            Collection<ReleaseIdDetector> releaseDetectors) {
+        this.cacheFile = isCacheable(bomArtifact, deps)
+                ? cacheDir.resolve(bomArtifact.getGroupId()).resolve(bomArtifact.getArtifactId())
+                        .resolve(bomArtifact.getVersion()).resolve(getKey(bomArtifact, deps, releaseDetectors) + ".txt")
+                : null;
+    }
+
+    /**
+     * Returns the cached decomposition or null, if the BOM has not been cached.
+     *
+     * @return cached decomposition or null
+     */
+    Entry read() {
+        if (cacheFile == null || !Files.exists(cacheFile)) {
+            return null;
+        }
+        final Map<ArtifactCoords, ScmRevision> revisions = new HashMap<>();
+        final Map<ArtifactCoords, Long> unresolved = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] parts = line.split("\t");
+                if (parts.length == 3 && UNRESOLVED.equals(parts[1])) {
+                    unresolved.put(ArtifactCoords.fromString(parts[0]), Long.parseLong(parts[2]));
+                } else if (parts.length == 4) {
+                    revisions.put(ArtifactCoords.fromString(parts[0]), toRevision(parts[1], parts[2], parts[3]));
+                } else {
+                    // the cache is corrupted
+                    return null;
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+        return new Entry(revisions, unresolved);
+    }
+
+    /**
+     * Persists revisions of the dependencies and the dependencies that could not be resolved.
+     *
+     * @param revisions revisions of the dependencies
+     * @param unresolved dependencies that could not be resolved mapped to the time they were found missing
+     */
+    void write(Map<ArtifactCoords, ScmRevision> revisions, Map<ArtifactCoords, Long> unresolved) {
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            final Path tmp = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp)) {
+                for (Map.Entry<ArtifactCoords, ScmRevision> e : revisions.entrySet()) {
+                    final ScmRevision revision = e.getValue();
+                    final ScmRepository repo = revision.getRepository();
+                    writer.write(e.getKey().toString());
+                    writer.write('\t');
+                    writer.write(revision.getKind().name());
+                    writer.write('\t');
+                    writer.write(repo.hasUrl() ? REPO_URL_PREFIX + repo.getUrl() : REPO_ID_PREFIX + repo.getId());
+                    writer.write('\t');
+                    writer.write(revision.getValue());
+                    writer.newLine();
+                }
+                for (Map.Entry<ArtifactCoords, Long> e : unresolved.entrySet()) {
+                    writer.write(e.getKey().toString());
+                    writer.write('\t');
+                    writer.write(UNRESOLVED);
+                    writer.write('\t');
+                    writer.write(String.valueOf(e.getValue()));
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to persist decomposed BOM to " + cacheFile, e);
+        }
+    }
+
+    private static ScmRevision toRevision(String kind, String repoStr, String value) {
+        final ScmRepository repo;
+        if (repoStr.startsWith(REPO_URL_PREFIX)) {
+            repo = ScmRepository.ofUrl(repoStr.substring(REPO_URL_PREFIX.length()));
+        } else if (repoStr.startsWith(REPO_ID_PREFIX)) {
+            repo = ScmRepository.ofId(repoStr.substring(REPO_ID_PREFIX.length()));
+        } else {
+            throw new IllegalArgumentException("Unexpected repository " + repoStr);
+        }
+        switch (ScmRevision.Kind.valueOf(kind)) {
+            case COMMIT:
+                return ScmRevision.commit(repo, value);
+            case TAG:
+                return ScmRevision.tag(repo, value);
+            case BRANCH:
+                return ScmRevision.branch(repo, value);
+            default:
+                return ScmRevision.version(repo, value);
+        }
+    }
+
+    private static boolean isCacheable(Artifact bomArtifact, Collection<Dependency> deps) {
+        if (bomArtifact == null || bomArtifact.isSnapshot()) {
+            return false;
+        }
+        for (Dependency d : deps) {
+            if (d.getArtifact().isSnapshot()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getKey(Artifact bomArtifact, Collection<Dependency> deps,
+            Collection<ReleaseIdDetector> releaseDetectors) {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to initialize SHA-256 message digest", e);
+        }
+        final List<String> lines = new ArrayList<>(deps.size() + releaseDetectors.size() + 1);
+        lines.add(bomArtifact.toString());
+        for (Dependency d : deps) {
+            lines.add(d.getArtifact().toString());
+        }
+        for (ReleaseIdDetector detector : releaseDetectors) {
+            lines.add(detector.getCacheKey());
+        }
+        for (String line : lines) {
+            md.update(line.getBytes(StandardCharsets.UTF_8));
+            md.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+}
@@ -7,4 +7,15 @@ import org.eclipse.aether.artifact.Artifact;
 public interface ReleaseIdDetector {
 
     ScmRevision detectReleaseId(ScmRevisionResolver releaseResolver, Artifact artifact) throws BomDecomposerException;
+
+    /**
+     * Returns a value identifying this detector and its configuration, which is used to tell whether release IDs
+     * detected previously can be re-used. Detectors whose results depend on their configuration should include
+     * the configuration in the returned value.
+     *
+     * @return value identifying this detector and its configuration
+     */
+    default String getCacheKey() {
+        return getClass().getName();
+    }
 }
@@ -2,23 +2,27 @@ package io.quarkus.bom.decomposer;
 
 import io.quarkus.bom.decomposer.ProjectDependency.UpdateStatus;
 import io.quarkus.bom.resolver.ArtifactResolver;
+import io.quarkus.bom.task.PlatformGenTaskScheduler;
 import io.quarkus.devtools.messagewriter.MessageWriter;
 import io.quarkus.domino.scm.ScmRepository;
 import io.quarkus.domino.scm.ScmRevision;
+import io.quarkus.maven.dependency.ArtifactCoords;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.eclipse.aether.artifact.Artifact;
 
 public class UpdateAvailabilityTransformer implements DecomposedBomTransformer {
 
     private final ArtifactResolver resolver;
     private final MessageWriter log;
+    private final Map<String, Set<String>> availableVersions = new ConcurrentHashMap<>();
 
     public UpdateAvailabilityTransformer(ArtifactResolver resolver, MessageWriter log) {
         this.resolver = Objects.requireNonNull(resolver);
@@ -29,61 +33,20 @@ public class UpdateAvailabilityTransformer implements DecomposedBomTransformer {
     public DecomposedBom transform(DecomposedBom decomposedBom)
             throws BomDecomposerException {
         log.debug("Transforming decomposed %s", decomposedBom.bomArtifact());
+        final PlatformGenTaskScheduler scheduler = PlatformGenTaskScheduler.getInstance();
         decomposedBom.visit(new NoopDecomposedBomVisitor(true) {
 
             List<ProjectRelease> releases = new ArrayList<>();
 
             @Override
             public void leaveReleaseOrigin(ScmRepository releaseOrigin) throws BomDecomposerException {
-
-                // sort the collected release versions
-                final List<ArtifactVersion> releaseVersions = new ArrayList<>();
-                final Map<ArtifactVersion, ScmRevision> versionToReleaseId = new HashMap<>();
-                for (ProjectRelease release : releases) {
-                    for (String versionStr : release.artifactVersions()) {
-                        final ArtifactVersion version = new DefaultArtifactVersion(versionStr);
-                        releaseVersions.add(version);
-                        final ScmRevision prevReleaseId = versionToReleaseId.put(version, release.id());
-                        if (prevReleaseId != null) {
-                            if (new DefaultArtifactVersion(prevReleaseId.getValue())
-                                    .compareTo(new DefaultArtifactVersion(release.id().getValue())) > 0) {
-                                versionToReleaseId.put(version, prevReleaseId);
-                            }
-                        }
-                    }
-                }
-                Collections.sort(releaseVersions);
-
-                for (ProjectRelease release : releases) {
-                    for (ProjectDependency dep : release.dependencies()) {
-                        // the latest version is the preferred one
-                        int i = releaseVersions.size() - 1;
-                        if (release.id().equals(versionToReleaseId.get(releaseVersions.get(i)))) {
-                            dep.preferredVersion = true;
-                            continue;
-                        }
-
-                        while (i >= 0) {
-                            final ArtifactVersion version = releaseVersions.get(i--);
-                            final ScmRevision releaseId = versionToReleaseId.get(version);
-                            if (release.id().equals(releaseId)) {
-                                // we've reached the release version the dep belongs to
-                                break;
-                            }
-                            final Artifact updatedArtifact = dep.artifact().setVersion(version.toString());
-                            if (isAvailable(updatedArtifact)) {
-                                dep.setAvailableUpdate(
-                                        ProjectDependency.create(releaseId, dep.dependency().setArtifact(updatedArtifact)));
-                                break;
-                            }
-                        }
-
-                        if (dep.updateStatus() == UpdateStatus.UNKNOWN) {
-                            dep.setUpdateUnavailable();
-                        }
-                    }
+                final List<ProjectRelease> originReleases = releases;
+                releases = new ArrayList<>();
+                try {
+                    scheduler.schedule(() -> checkForUpdates(originReleases));
+                } catch (Exception e) {
+                    throw new BomDecomposerException("Failed to check for updates of " + releaseOrigin, e);
                 }
-                releases.clear();
             }
 
             @Override
@@ -91,11 +54,86 @@ public class UpdateAvailabilityTransformer implements DecomposedBomTransformer {
                 releases.add(release);
             }
         });
+        try {
+            scheduler.waitForCompletion();
+        } catch (Exception e) {
+            throw new BomDecomposerException("Failed to check for updates", e);
+        }
+        if (scheduler.hasErrors()) {
+            for (var e : scheduler.getErrors()) {
+                log.error("Failed to check for updates: " + e.getLocalizedMessage());
+            }
+            throw new BomDecomposerException("Failed to check for updates",
+                    scheduler.getErrors().iterator().next());
+        }
         log.debug("Transformed decomposed BOM %s", decomposedBom.bomArtifact());
         return decomposedBom;
     }
 
-    private boolean isAvailable(Artifact artifact) {
+    private void checkForUpdates(List<ProjectRelease> releases) {
+        // sort the collected release versions
+        final List<ArtifactVersion> releaseVersions = new ArrayList<>();
+        final Map<ArtifactVersion, ScmRevision> versionToReleaseId = new HashMap<>();
+        for (ProjectRelease release : releases) {
+            for (String versionStr : release.artifactVersions()) {
+                final ArtifactVersion version = ArtifactVersionCache.get(versionStr);
+                releaseVersions.add(version);
+                final ScmRevision prevReleaseId = versionToReleaseId.put(version, release.id());
+                if (prevReleaseId != null) {
+                    if (ArtifactVersionCache.compare(prevReleaseId.getValue(), release.id().getValue()) > 0) {
+                        versionToReleaseId.put(version, prevReleaseId);
+                    }
+                }
+            }
+        }
+        Collections.sort(releaseVersions);
+
+        for (ProjectRelease release : releases) {
+            for (ProjectDependency dep : release.dependencies()) {
+                // the latest version is the preferred one
+                int i = releaseVersions.size() - 1;
+                if (release.id().equals(versionToReleaseId.get(releaseVersions.get(i)))) {
+                    dep.preferredVersion = true;
+                    continue;
+                }
+
+                while (i >= 0) {
+                    final ArtifactVersion version = releaseVersions.get(i--);
+                    final ScmRevision releaseId = versionToReleaseId.get(version);
+                    if (release.id().equals(releaseId)) {
+                        // we've reached the release version the dep belongs to
+                        break;
+                    }
+                    final Artifact updatedArtifact = dep.artifact().setVersion(version.toString());
+                    if (isAvailable(updatedArtifact)) {
+                        dep.setAvailableUpdate(
+                                ProjectDependency.create(releaseId, dep.dependency().setArtifact(updatedArtifact)));
+                        break;
+                    }
+                }
+
+                if (dep.updateStatus() == UpdateStatus.UNKNOWN) {
+                    dep.setUpdateUnavailable();
+                }
+            }
+        }
+    }
+
+    boolean isAvailable(Artifact artifact) {
+        final Set<String> versions = availableVersions.computeIfAbsent(
+                artifact.getGroupId() + ":" + artifact.getArtifactId(),
+                k -> Set.copyOf(resolver.getAvailableVersions(artifact.getGroupId(), artifact.getArtifactId())));
+        if (!versions.isEmpty()) {
+            if (!versions.contains(artifact.getVersion())) {
+                return false;
+            }
+            // the metadata is maintained per groupId and artifactId, so it does not tell whether an artifact
+            // with a classifier or a type other than jar was released with a given version
+            if (artifact.getClassifier().isEmpty() && ArtifactCoords.TYPE_JAR.equals(artifact.getExtension())) {
+                return true;
+            }
+        }
+        // the metadata could not be resolved or the version has to be confirmed by resolving the artifact itself
         return resolver.resolveOrNull(artifact) != null;
     }
 }
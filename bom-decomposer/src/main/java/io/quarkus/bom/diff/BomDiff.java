@@ -1,5 +1,6 @@
 package io.quarkus.bom.diff;
 
+import io.quarkus.bom.decomposer.ArtifactVersionCache;
 import io.quarkus.bom.resolver.ArtifactResolver;
 import io.quarkus.bom.resolver.ArtifactResolverProvider;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenContext;
@@ -14,7 +15,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.graph.Dependency;
@@ -186,8 +186,8 @@ public class BomDiff {
                 missing.put(main.getKey().toString(), main.getValue());
             } else if (main.getValue().getArtifact().getVersion().equals(toDep.getArtifact().getVersion())) {
                 matching.put(main.getKey().toString(), main.getValue());
-            } else if (new DefaultArtifactVersion(main.getValue().getArtifact().getVersion())
-                    .compareTo(new DefaultArtifactVersion(toDep.getArtifact().getVersion())) > 0) {
+            } else if (ArtifactVersionCache.compare(main.getValue().getArtifact().getVersion(),
+                    toDep.getArtifact().getVersion()) > 0) {
                 downgraded.put(main.getKey().toString(), new VersionChange(main.getValue(), toDep, false));
             } else {
                 upgraded.put(main.getKey().toString(), new VersionChange(main.getValue(), toDep, true));
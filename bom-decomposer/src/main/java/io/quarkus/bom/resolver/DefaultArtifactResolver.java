@@ -4,32 +4,31 @@ import io.quarkus.bootstrap.resolver.maven.BootstrapMavenException;
 import io.quarkus.bootstrap.resolver.maven.MavenArtifactResolver;
 import io.quarkus.bootstrap.resolver.maven.workspace.LocalWorkspace;
 import io.quarkus.maven.dependency.ArtifactCoords;
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
-import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
 import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
-import org.eclipse.aether.resolution.DependencyRequest;
-import org.eclipse.aether.resolution.DependencyResolutionException;
-import org.eclipse.aether.resolution.DependencyResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
-import org.eclipse.aether.util.artifact.JavaScopes;
 
 /**
  * This class wraps the underlying Maven artifact resolver and may keep an artifact info cache, e.g.
@@ -45,13 +44,15 @@ public class DefaultArtifactResolver implements ArtifactResolver {
 
     private final MavenArtifactResolver resolver;
     private final Path baseDir;
-    private final Path notFoundArtifactsPath;
-    private final Set<ArtifactCoords> notFoundArtifacts = new HashSet<>(0);
+    private final NotFoundArtifactCache notFoundArtifacts;
+    private final List<String> repoUrls;
     private final Map<String, List<String>> availableVersionsCache = new ConcurrentHashMap<>();
+    private final Map<ArtifactCoords, ArtifactResult> resolvedArtifacts = new ConcurrentHashMap<>();
 
     private DefaultArtifactResolver(MavenArtifactResolver resolver, Path baseDir) {
         this.resolver = Objects.requireNonNull(resolver);
         this.baseDir = baseDir;
+        repoUrls = toUrls(resolver.getRepositories());
         if (baseDir != null) {
             final Path cacheDir = baseDir.resolve(".quarkus-bom-generator");
             if (!Files.exists(cacheDir)) {
@@ -61,19 +62,9 @@ public class DefaultArtifactResolver implements ArtifactResolver {
                     throw new RuntimeException("Failed to create cache directory " + cacheDir, e);
                 }
             }
-            notFoundArtifactsPath = cacheDir.resolve(NOT_FOUND_ARTIFACTS);
-            if (Files.exists(notFoundArtifactsPath)) {
-                try (BufferedReader reader = Files.newBufferedReader(notFoundArtifactsPath)) {
-                    String s;
-                    while ((s = reader.readLine()) != null) {
-                        notFoundArtifacts.add(ArtifactCoords.fromString(s));
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to read " + notFoundArtifactsPath, e);
-                }
-            }
+            notFoundArtifacts = NotFoundArtifactCache.getInstance(cacheDir.resolve(NOT_FOUND_ARTIFACTS), repoUrls);
         } else {
-            notFoundArtifactsPath = null;
+            notFoundArtifacts = null;
         }
     }
 
@@ -89,37 +80,65 @@ public class DefaultArtifactResolver implements ArtifactResolver {
 
     @Override
     public ArtifactResult resolve(Artifact a, List<RemoteRepository> repos) {
+        final List<RemoteRepository> remoteRepos;
+        final List<String> remoteRepoUrls;
+        if (repos.isEmpty()) {
+            remoteRepos = resolver.getRepositories();
+            remoteRepoUrls = repoUrls;
+        } else {
+            remoteRepos = resolver.aggregateRepositories(resolver.getRepositories(),
+                    resolver.newResolutionRepositories(repos));
+            remoteRepoUrls = toUrls(remoteRepos);
+        }
         final ArtifactCoords coords = toCoords(a);
-        if (isRecordedAsNonExisting(coords)) {
+        if (isRecordedAsNonExisting(coords, remoteRepoUrls)) {
             throw recordedAsNonExistingError(coords);
         }
-        DependencyResult depResult;
+        final ArtifactResult cached = resolvedArtifacts.get(coords);
+        if (cached != null) {
+            return cached;
+        }
+        final RepositorySystemSession session = resolver.getSession();
+
+        // read the descriptor to capture relocations, i.e. when {@code a} was relocated to another artifact
+        final Artifact target;
         try {
-            // this trick is done to capture relocations, i.e. when {@code a} was relocated to another artifact
-            var request = new DependencyRequest()
-                    .setCollectRequest(new CollectRequest()
-                            .setRootArtifact(a)
-                            .setDependencies(List.of(new org.eclipse.aether.graph.Dependency(a, JavaScopes.COMPILE, false,
-                                    List.of(new org.eclipse.aether.graph.Exclusion("*", "*", "*", "*")))))
-                            .setRepositories(resolver.getRepositories()));
-            depResult = resolver.getSystem().resolveDependencies(resolver.getSession(), request);
-        } catch (DependencyResolutionException e) {
-            List<ArtifactResult> artifactResults = e.getResult().getArtifactResults();
-            if (!artifactResults.isEmpty()) {
-                ArtifactResult result = artifactResults.get(0);
-                for (Exception error : result.getExceptions()) {
-                    if (isArtifactNotFoundError(error)) {
-                        persistNotFoundArtifacts(coords);
-                        throw new ArtifactNotFoundException("Failed to resolve " + a, error);
-                    }
-                }
-            }
+            target = resolver.getSystem().readArtifactDescriptor(session,
+                    new ArtifactDescriptorRequest(a, remoteRepos, null)).getArtifact();
+        } catch (ArtifactDescriptorException e) {
             throw new ArtifactNotFoundException("Failed to resolve " + a, e);
         }
-        if (depResult.getArtifactResults().size() != 1) {
-            throw new IllegalStateException("Expected a single dependency but got " + depResult.getArtifactResults());
+
+        // artifacts found in the workspace or in the local repository are returned without consulting
+        // the remote repositories, following the same order as the repository system
+        ArtifactResult result = null;
+        final WorkspaceReader workspace = session.getWorkspaceReader();
+        final File workspaceFile = workspace == null ? null : workspace.findArtifact(target);
+        if (workspaceFile != null) {
+            result = new ArtifactResult(new ArtifactRequest(target, remoteRepos, null));
+            result.setArtifact(target.setFile(workspaceFile));
+            result.setRepository(workspace.getRepository());
+        } else {
+            final LocalArtifactResult localResult = session.getLocalRepositoryManager().find(session,
+                    new LocalArtifactRequest(target, remoteRepos, null));
+            if (localResult.isAvailable() && localResult.getFile() != null) {
+                result = new ArtifactResult(new ArtifactRequest(target, remoteRepos, null));
+                result.setArtifact(target.setFile(localResult.getFile()));
+                result.setRepository(session.getLocalRepository());
+            }
         }
-        return depResult.getArtifactResults().get(0);
+        if (result == null) {
+            try {
+                result = resolver.getSystem().resolveArtifact(session, new ArtifactRequest(target, remoteRepos, null));
+            } catch (ArtifactResolutionException e) {
+                if (isArtifactNotFoundError(e)) {
+                    persistNotFoundArtifacts(coords, remoteRepoUrls);
+                }
+                throw new ArtifactNotFoundException("Failed to resolve " + a, e);
+            }
+        }
+        final ArtifactResult existing = resolvedArtifacts.putIfAbsent(coords, result);
+        return existing == null ? result : existing;
     }
 
     @Override
@@ -194,21 +213,29 @@ public class DefaultArtifactResolver implements ArtifactResolver {
     }
 
     private void persistNotFoundArtifacts(ArtifactCoords coords) {
-        if (notFoundArtifactsPath == null) {
-            return;
-        }
-        notFoundArtifacts.add(coords);
-        try (BufferedWriter writer = Files.newBufferedWriter(notFoundArtifactsPath, StandardOpenOption.CREATE,
-                StandardOpenOption.APPEND)) {
-            writer.append(coords.toString());
-            writer.newLine();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to persist not found artifact list to " + notFoundArtifactsPath, e);
+        persistNotFoundArtifacts(coords, repoUrls);
+    }
+
+    private void persistNotFoundArtifacts(ArtifactCoords coords, List<String> repoUrls) {
+        if (notFoundArtifacts != null) {
+            notFoundArtifacts.record(coords, repoUrls);
         }
     }
 
     private boolean isRecordedAsNonExisting(ArtifactCoords coords) {
-        return notFoundArtifacts.contains(coords);
+        return isRecordedAsNonExisting(coords, repoUrls);
+    }
+
+    private boolean isRecordedAsNonExisting(ArtifactCoords coords, List<String> repoUrls) {
+        return notFoundArtifacts != null && notFoundArtifacts.isRecorded(coords, repoUrls);
+    }
+
+    private static List<String> toUrls(List<RemoteRepository> repos) {
+        final List<String> urls = new ArrayList<>(repos.size());
+        for (RemoteRepository r : repos) {
+            urls.add(r.getUrl());
+        }
+        return urls;
     }
 
     private static boolean isArtifactNotFoundError(Throwable t) {
@@ -10,8 +10,14 @@ import io.quarkus.bootstrap.resolver.maven.workspace.ModelUtils;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.maven.model.Model;
@@ -32,14 +38,38 @@ import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactResult;
 
+/**
+ * Resolves effective POM models of artifacts.
+ * <p>
+ * Resolved models are kept in a bounded in-memory cache and, optionally, in a persistent cache
+ * keyed by the checksum of the POM. Instances of this class are thread-safe.
+ * Returned models are shared and must not be modified by callers.
+ */
 public class EffectiveModelResolver {
 
+    /**
+     * Default maximum number of effective models kept in memory
+     */
+    public static final int DEFAULT_MAX_CACHED_MODELS = 5000;
+
     private final MavenArtifactResolver resolver;
     private final ModelBuilder modelBuilder;
     private final ModelCache modelCache;
-    private final Map<ArtifactCoords, Model> effectiveModels = new HashMap<>();
+    private final Map<ArtifactCoords, Model> effectiveModels;
+    private final Path persistentCacheDir;
+    private volatile ModelResolver baseModelResolver;
 
     public EffectiveModelResolver(MavenArtifactResolver resolver) {
+        this(resolver, DEFAULT_MAX_CACHED_MODELS, null);
+    }
+
+    /**
+     * @param resolver Maven artifact resolver
+     * @param maxCachedModels maximum number of effective models kept in memory
+     * @param persistentCacheDir directory to persist effective models of released artifacts to,
+     *        or null, if effective models should not be persisted
+     */
+    public EffectiveModelResolver(MavenArtifactResolver resolver, int maxCachedModels, Path persistentCacheDir) {
         this.resolver = resolver;
         try {
             modelCache = new BootstrapModelCache(resolver.getMavenContext().getRepositorySystemSession());
@@ -47,6 +77,13 @@ public class EffectiveModelResolver {
             throw new RuntimeException("Failed to initialize Maven model resolver", e);
         }
         modelBuilder = BootstrapModelBuilderFactory.getDefaultModelBuilder();
+        effectiveModels = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ArtifactCoords, Model> eldest) {
+                return size() > maxCachedModels;
+            }
+        });
+        this.persistentCacheDir = persistentCacheDir;
     }
 
     public Model resolveEffectiveModel(ArtifactCoords coords) {
@@ -83,6 +120,17 @@ public class EffectiveModelResolver {
             throw new RuntimeException("Failed to resolve " + coords.toCompactCoords(), e);
         }
 
+        final Path persistedModel = getPersistedModelPath(coords, pomFile.toPath());
+        if (persistedModel != null && Files.exists(persistedModel)) {
+            try {
+                cached = ModelUtils.readModel(persistedModel);
+                effectiveModels.put(coords, cached);
+                return cached;
+            } catch (IOException e) {
+                // the model will be re-built
+            }
+        }
+
         final Model rawModel;
         try {
             rawModel = ModelUtils.readModel(pomFile.toPath());
@@ -90,12 +138,7 @@ public class EffectiveModelResolver {
             throw new RuntimeException("Failed to read " + pomFile, e1);
         }
 
-        final ModelResolver modelResolver;
-        try {
-            modelResolver = BootstrapModelResolver.newInstance(resolver.getMavenContext(), null);
-        } catch (BootstrapMavenException e) {
-            throw new RuntimeException("Failed to initialize model resolver", e);
-        }
+        final ModelResolver modelResolver = getBaseModelResolver().newCopy();
 
         // override the relative path to the parent in case it's in the local Maven repo
         Parent parent = rawModel.getParent();
@@ -151,11 +194,69 @@ public class EffectiveModelResolver {
         req.setUserProperties(System.getProperties());
         req.setModelCache(modelCache);
 
+        final Model effectiveModel;
         try {
-            return modelBuilder.build(req).getEffectiveModel();
+            effectiveModel = modelBuilder.build(req).getEffectiveModel();
         } catch (ModelBuildingException e) {
             throw new RuntimeException("Failed to resolve the effective model of " + coords.toCompactCoords(), e);
         }
+        effectiveModels.put(coords, effectiveModel);
+        if (persistedModel != null) {
+            persistModel(persistedModel, effectiveModel);
+        }
+        return effectiveModel;
+    }
+
+    private ModelResolver getBaseModelResolver() {
+        ModelResolver result = baseModelResolver;
+        if (result == null) {
+            synchronized (this) {
+                result = baseModelResolver;
+                if (result == null) {
+                    try {
+                        baseModelResolver = result = BootstrapModelResolver.newInstance(resolver.getMavenContext(), null);
+                    } catch (BootstrapMavenException e) {
+                        throw new RuntimeException("Failed to initialize model resolver", e);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the path under which the effective model for a POM is (or should be) persisted or null,
+     * if the effective model should not be persisted. Only effective models of released artifacts are persisted.
+     *
+     * @param coords POM artifact coordinates
+     * @param pomFile POM file
+     * @return path to the persisted effective model or null
+     */
+    private Path getPersistedModelPath(ArtifactCoords coords, Path pomFile) {
+        if (persistentCacheDir == null || coords.getVersion().endsWith("-SNAPSHOT")) {
+            return null;
+        }
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+            md.update(Files.readAllBytes(pomFile));
+        } catch (NoSuchAlgorithmException | IOException e) {
+            return null;
+        }
+        final String checksum = HexFormat.of().formatHex(md.digest());
+        return persistentCacheDir.resolve(coords.getGroupId()).resolve(coords.getArtifactId())
+                .resolve(coords.getVersion()).resolve(checksum + ".pom");
+    }
+
+    private static void persistModel(Path target, Model model) {
+        try {
+            Files.createDirectories(target.getParent());
+            final Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            ModelUtils.persistModel(tmp, model);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // persisting is an optimization, the model will be re-built next time
+        }
     }
 
     static class BootstrapModelCache implements ModelCache {
@@ -0,0 +1,403 @@
+package io.quarkus.bom.resolver;
+
+import io.quarkus.bootstrap.BootstrapConstants;
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import org.jboss.logging.Logger;
+
+/**
+ * Index of Quarkus extension descriptors, i.e. the content of {@code META-INF/quarkus-extension.properties}
+ * and {@code META-INF/quarkus-extension.yaml}, found in artifact JARs. Instances of this class are thread-safe.
+ * <p>
+ * The descriptors are read using {@link ZipFile}, which locates the entries using the central directory of a JAR
+ * instead of mounting it as a file system. Descriptors of JARs are persisted across runs in the index file
+ * and are keyed by the path, the size and the last modified time of a JAR, so a JAR that has changed is read again.
+ * JARs that are not Quarkus extensions are recorded as well. Descriptors of directories are not persisted.
+ * <p>
+ * Each line of the index file has the format {@code <path>\t<size>\t<last-modified>\t<properties>\t<metadata>},
+ * where the properties and the metadata are Base64-encoded or {@code -}, in case the JAR does not include them.
+ * Later lines override earlier ones. New lines are appended to the file in batches and when the JVM shuts down.
+ * If the file contains superseded or corrupted lines, it is rewritten with only the current entries when it is loaded.
+ */
+public class ExtensionDescriptorIndex {
+
+    private static final Logger log = Logger.getLogger(ExtensionDescriptorIndex.class);
+
+    /**
+     * System property that can be used to override the default location of the index file
+     */
+    public static final String INDEX_FILE_PROP = "quarkusExtensionDescriptorIndex";
+
+    /**
+     * Directory under the user home the other persistent caches are stored in
+     */
+    private static final String CONFIG_DIR_NAME = ".domino";
+
+    private static final String HEADER = "# Quarkus extension descriptor index v1";
+    private static final String ABSENT = "-";
+    private static final int FIELDS_TOTAL = 5;
+
+    /**
+     * Number of pending lines that triggers writing them to the index file
+     */
+    private static final int FLUSH_THRESHOLD = 64;
+
+    private static final Map<Path, ExtensionDescriptorIndex> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the index persisted in the default index file.
+     *
+     * @return index persisted in the default index file
+     */
+    public static ExtensionDescriptorIndex getInstance() {
+        return getInstance(getDefaultIndexFile());
+    }
+
+    /**
+     * Returns the index persisted in the given file. The same instance is returned for the same file.
+     *
+     * @param indexFile index file
+     * @return index persisted in the given file
+     */
+    public static ExtensionDescriptorIndex getInstance(Path indexFile) {
+        return instances.computeIfAbsent(indexFile.toAbsolutePath().normalize(), ExtensionDescriptorIndex::new);
+    }
+
+    /**
+     * Returns the index file configured with the {@link #INDEX_FILE_PROP} system property or
+     * {@code ~/.domino/extension-descriptors.idx}, if the property is not set.
+     *
+     * @return default index file
+     */
+    public static Path getDefaultIndexFile() {
+        final String s = System.getProperty(INDEX_FILE_PROP);
+        return s == null
+                ? Path.of(System.getProperty("user.home"), CONFIG_DIR_NAME, "extension-descriptors.idx")
+                : Path.of(s);
+    }
+
+    /**
+     * Quarkus extension descriptor
+     */
+    public static class ExtensionDescriptor {
+
+        private static final ExtensionDescriptor NONE = new ExtensionDescriptor(null, null);
+
+        private final String properties;
+        private final String metadata;
+        private volatile Properties parsedProperties;
+
+        private ExtensionDescriptor(String properties, String metadata) {
+            this.properties = properties;
+            this.metadata = metadata;
+        }
+
+        /**
+         * Whether the artifact includes {@code META-INF/quarkus-extension.properties}
+         *
+         * @return whether the artifact includes extension properties
+         */
+        public boolean hasProperties() {
+            return properties != null;
+        }
+
+        /**
+         * Whether the artifact includes {@code META-INF/quarkus-extension.yaml}
+         *
+         * @return whether the artifact includes extension metadata
+         */
+        public boolean hasMetadata() {
+            return metadata != null;
+        }
+
+        /**
+         * Parsed {@code META-INF/quarkus-extension.properties} or null, if the artifact does not include it.
+         * The returned instance must not be modified.
+         *
+         * @return extension properties or null
+         */
+        public Properties getProperties() {
+            if (properties == null) {
+                return null;
+            }
+            Properties props = parsedProperties;
+            if (props == null) {
+                props = new Properties();
+                try {
+                    props.load(new StringReader(properties));
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to parse extension properties", e);
+                }
+                parsedProperties = props;
+            }
+            return props;
+        }
+
+        /**
+         * Content of {@code META-INF/quarkus-extension.yaml} or null, if the artifact does not include it
+         *
+         * @return extension metadata or null
+         */
+        public String getMetadata() {
+            return metadata;
+        }
+
+        /**
+         * Coordinates of the deployment artifact configured in the extension properties or null,
+         * if they are not configured.
+         *
+         * @return coordinates of the deployment artifact or null
+         */
+        public ArtifactCoords getDeploymentArtifact() {
+            final Properties props = getProperties();
+            if (props == null) {
+                return null;
+            }
+            final String s = props.getProperty(BootstrapConstants.PROP_DEPLOYMENT_ARTIFACT);
+            return s == null ? null : ArtifactCoords.fromString(s);
+        }
+
+        private boolean isExtension() {
+            return properties != null || metadata != null;
+        }
+    }
+
+    private static class Entry {
+        final long size;
+        final long lastModified;
+        final ExtensionDescriptor descriptor;
+
+        Entry(long size, long lastModified, ExtensionDescriptor descriptor) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.descriptor = descriptor;
+        }
+    }
+
+    private final Path indexFile;
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final List<String> pending = new ArrayList<>();
+    private volatile boolean loaded;
+    private boolean shutdownHookRegistered;
+
+    ExtensionDescriptorIndex(Path indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Returns the Quarkus extension descriptor of an artifact or null, if the artifact is not a Quarkus extension.
+     *
+     * @param artifact artifact JAR or directory
+     * @return extension descriptor or null, if the artifact is not a Quarkus extension
+     */
+    public ExtensionDescriptor getDescriptor(Path artifact) {
+        final ExtensionDescriptor descriptor;
+        if (Files.isDirectory(artifact)) {
+            descriptor = readDirectory(artifact);
+        } else {
+            descriptor = getArchiveDescriptor(artifact.toAbsolutePath().normalize());
+        }
+        return descriptor.isExtension() ? descriptor : null;
+    }
+
+    /**
+     * Appends pending entries to the index file.
+     */
+    public void flush() {
+        final List<String> lines;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            lines = new ArrayList<>(pending);
+            pending.clear();
+        }
+        synchronized (this) {
+            try {
+                Files.createDirectories(indexFile.getParent());
+                final boolean writeHeader = !Files.exists(indexFile);
+                try (BufferedWriter writer = Files.newBufferedWriter(indexFile, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND)) {
+                    if (writeHeader) {
+                        writer.write(HEADER);
+                        writer.newLine();
+                    }
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Failed to persist extension descriptors to " + indexFile + ": " + e.getLocalizedMessage());
+            }
+        }
+    }
+
+    private ExtensionDescriptor getArchiveDescriptor(Path archive) {
+        ensureLoaded();
+        final BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(archive, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read attributes of " + archive, e);
+        }
+        final long size = attrs.size();
+        final long lastModified = attrs.lastModifiedTime().toMillis();
+        Entry e = entries.get(archive);
+        if (e == null || e.size != size || e.lastModified != lastModified) {
+            e = new Entry(size, lastModified, readArchive(archive));
+            entries.put(archive, e);
+            addPending(toLine(archive, e));
+        }
+        return e.descriptor;
+    }
+
+    private void addPending(String line) {
+        final boolean flush;
+        synchronized (pending) {
+            pending.add(line);
+            flush = pending.size() >= FLUSH_THRESHOLD;
+            if (!shutdownHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "extension-descriptor-index-flush"));
+                shutdownHookRegistered = true;
+            }
+        }
+        if (flush) {
+            flush();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            if (Files.exists(indexFile)) {
+                readIndex();
+            }
+            loaded = true;
+        }
+    }
+
+    private void readIndex() {
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(indexFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                ++lines;
+                final String[] fields = line.split("\t", -1);
+                if (fields.length != FIELDS_TOTAL) {
+                    // a partially written line
+                    continue;
+                }
+                try {
+                    entries.put(Path.of(fields[0]), new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                            new ExtensionDescriptor(decode(fields[3]), decode(fields[4]))));
+                } catch (IllegalArgumentException e) {
+                    // a corrupted line
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read extension descriptors from " + indexFile + ": " + e.getLocalizedMessage());
+            return;
+        }
+        if (lines > entries.size()) {
+            rewriteIndex();
+        }
+    }
+
+    private void rewriteIndex() {
+        final Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Map.Entry<Path, Entry> e : entries.entrySet()) {
+                    writer.write(toLine(e.getKey(), e.getValue()));
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to rewrite extension descriptor index " + indexFile + ": " + e.getLocalizedMessage());
+        }
+    }
+
+    private static String toLine(Path archive, Entry e) {
+        return archive.toString() + '\t' + e.size + '\t' + e.lastModified + '\t' + encode(e.descriptor.properties) + '\t'
+                + encode(e.descriptor.metadata);
+    }
+
+    private static String encode(String s) {
+        return s == null ? ABSENT : Base64.getEncoder().encodeToString(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String s) {
+        return ABSENT.equals(s) ? null : new String(Base64.getDecoder().decode(s), StandardCharsets.UTF_8);
+    }
+
+    private static ExtensionDescriptor readArchive(Path archive) {
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            final String props = readEntry(zip, BootstrapConstants.DESCRIPTOR_PATH);
+            final String metadata = readEntry(zip, BootstrapConstants.EXTENSION_METADATA_PATH);
+            return props == null && metadata == null ? ExtensionDescriptor.NONE : new ExtensionDescriptor(props, metadata);
+        } catch (ZipException e) {
+            // not a ZIP archive
+            return ExtensionDescriptor.NONE;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + archive, e);
+        }
+    }
+
+    private static String readEntry(ZipFile zip, String name) throws IOException {
+        final ZipEntry entry = zip.getEntry(name);
+        if (entry == null) {
+            return null;
+        }
+        try (InputStream is = zip.getInputStream(entry)) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static ExtensionDescriptor readDirectory(Path dir) {
+        final String props = readFileOrNull(dir.resolve(BootstrapConstants.DESCRIPTOR_PATH));
+        final String metadata = readFileOrNull(dir.resolve(BootstrapConstants.EXTENSION_METADATA_PATH));
+        return props == null && metadata == null ? ExtensionDescriptor.NONE : new ExtensionDescriptor(props, metadata);
+    }
+
+    private static String readFileOrNull(Path p) {
+        if (!Files.exists(p)) {
+            return null;
+        }
+        try {
+            return Files.readString(p);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + p, e);
+        }
+    }
+}
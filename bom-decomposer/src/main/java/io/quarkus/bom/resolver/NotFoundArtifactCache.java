@@ -0,0 +1,321 @@
+package io.quarkus.bom.resolver;
+
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jboss.logging.Logger;
+
+/**
+ * Records artifacts that could not be resolved, so that they are not looked up again. Instances of this class
+ * are thread-safe and there is a single instance per cache file, shared by all the resolvers using it.
+ * <p>
+ * Each record includes the time the artifact was found missing and the URLs of the repositories it was looked up in.
+ * A record applies to a lookup only if it hasn't expired and the lookup is performed against the same or a subset of
+ * the recorded repositories.
+ * <p>
+ * Records are appended to the cache file in the background in batches, shortly after they are recorded, when the cache
+ * is closed and when the JVM shuts down. An open instance is closed and the file is loaded again the next time the
+ * instance is requested, if the file has been changed by another process, e.g. when a long-lived JVM runs several builds.
+ * <p>
+ * Each line of the file has the format {@code <coords>\t<timestamp>\t<repository-url>,<repository-url>}.
+ * Lines that include only the coordinates, written by older versions, are considered to be recorded at the time
+ * the file was last modified against the repositories of the resolver that loaded the cache. The file is rewritten
+ * when it is loaded, if it contains such lines, expired or superseded records.
+ */
+class NotFoundArtifactCache {
+
+    private static final Logger log = Logger.getLogger(NotFoundArtifactCache.class);
+
+    /**
+     * Default period of time after which an artifact recorded as missing will be looked up again
+     */
+    static final Duration DEFAULT_TTL = Duration.ofDays(7);
+
+    /**
+     * Number of pending records that triggers writing them to the cache file
+     */
+    private static final int FLUSH_THRESHOLD = 64;
+
+    /**
+     * Delay after which pending records are written to the cache file, if the threshold hasn't been reached
+     */
+    private static final long FLUSH_DELAY_MILLIS = 1000;
+
+    private static final Map<Path, NotFoundArtifactCache> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache persisted in the given file. The same instance is returned for the same file
+     * until it is closed or the file is changed by something other than the instance.
+     *
+     * @param cacheFile cache file
+     * @param repoUrls URLs of the repositories of the resolver loading the cache, which are used to migrate
+     *        records written by older versions
+     * @return cache persisted in the given file
+     */
+    static NotFoundArtifactCache getInstance(Path cacheFile, Collection<String> repoUrls) {
+        final Path file = cacheFile.toAbsolutePath().normalize();
+        while (true) {
+            final NotFoundArtifactCache cache = instances.computeIfAbsent(file,
+                    f -> new NotFoundArtifactCache(f, DEFAULT_TTL, repoUrls));
+            if (!cache.isStale()) {
+                return cache;
+            }
+            cache.close();
+        }
+    }
+
+    private static class Entry {
+        final long timestamp;
+        final Set<String> repoUrls;
+
+        Entry(long timestamp, Set<String> repoUrls) {
+            this.timestamp = timestamp;
+            this.repoUrls = repoUrls;
+        }
+    }
+
+    private final Path cacheFile;
+    private final long ttlMillis;
+    private final Map<ArtifactCoords, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private ScheduledThreadPoolExecutor writer;
+    private boolean flushScheduled;
+    private Thread shutdownHook;
+    /**
+     * Last modified time and size of the cache file as it was last read or written by this instance
+     */
+    private long syncedLastModified = -1;
+    private long syncedSize = -1;
+
+    NotFoundArtifactCache(Path cacheFile, Duration ttl, Collection<String> repoUrls) {
+        this.cacheFile = cacheFile;
+        this.ttlMillis = ttl.toMillis();
+        if (Files.exists(cacheFile)) {
+            readCacheFile(repoUrls);
+        }
+        updateSyncedState();
+    }
+
+    /**
+     * Checks whether an artifact has been recorded as missing in all the given repositories.
+     *
+     * @param coords artifact coordinates
+     * @param repoUrls URLs of the repositories the artifact would be looked up in
+     * @return true if the artifact has been recorded as missing in all the given repositories
+     */
+    boolean isRecorded(ArtifactCoords coords, Collection<String> repoUrls) {
+        final Entry e = entries.get(coords);
+        if (e == null) {
+            return false;
+        }
+        if (isExpired(e, System.currentTimeMillis())) {
+            entries.remove(coords, e);
+            return false;
+        }
+        return e.repoUrls.containsAll(repoUrls);
+    }
+
+    /**
+     * Records an artifact as missing in the given repositories.
+     *
+     * @param coords artifact coordinates
+     * @param repoUrls URLs of the repositories the artifact was looked up in
+     */
+    void record(ArtifactCoords coords, Collection<String> repoUrls) {
+        final Entry e = new Entry(System.currentTimeMillis(), new TreeSet<>(repoUrls));
+        entries.put(coords, e);
+        pending.add(toLine(coords, e));
+        scheduleFlush(pending.size() >= FLUSH_THRESHOLD);
+    }
+
+    /**
+     * Appends pending records to the cache file.
+     */
+    synchronized void flush() {
+        flushScheduled = false;
+        if (pending.isEmpty()) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(cacheFile, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            String line;
+            while ((line = pending.poll()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to persist not found artifacts to " + cacheFile + ": " + e.getLocalizedMessage());
+        }
+        updateSyncedState();
+    }
+
+    /**
+     * Writes pending records to the cache file, stops the background writer and releases the instance,
+     * so that the next {@link #getInstance(Path, Collection)} call for the same file loads it again.
+     */
+    void close() {
+        instances.remove(cacheFile, this);
+        final ScheduledThreadPoolExecutor writer;
+        synchronized (this) {
+            writer = this.writer;
+            this.writer = null;
+            flushScheduled = false;
+            if (shutdownHook != null) {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException e) {
+                    // the JVM is shutting down
+                }
+                shutdownHook = null;
+            }
+        }
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Schedules writing the pending records to the cache file. Unless the cache is closed, the records that are still
+     * pending when the JVM shuts down are written by a shutdown hook registered along with the first pending record.
+     *
+     * @param now whether the records should be written right away instead of after a delay
+     */
+    private synchronized void scheduleFlush(boolean now) {
+        if (shutdownHook == null) {
+            shutdownHook = new Thread(this::flush, "not-found-artifacts-flush");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+        if (writer == null) {
+            writer = new ScheduledThreadPoolExecutor(1, r -> {
+                final Thread t = new Thread(r, "not-found-artifacts-writer");
+                t.setDaemon(true);
+                return t;
+            });
+            // the records still pending are written by close()
+            writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+        if (now) {
+            writer.execute(this::flush);
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            writer.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized boolean isStale() {
+        return syncedLastModified != lastModified() || syncedSize != size();
+    }
+
+    private synchronized void updateSyncedState() {
+        syncedLastModified = lastModified();
+        syncedSize = size();
+    }
+
+    private long lastModified() {
+        try {
+            return Files.getLastModifiedTime(cacheFile).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private long size() {
+        try {
+            return Files.size(cacheFile);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private boolean isExpired(Entry e, long now) {
+        return now - e.timestamp > ttlMillis;
+    }
+
+    private static String toLine(ArtifactCoords coords, Entry e) {
+        return coords.toString() + '\t' + e.timestamp + '\t' + String.join(",", e.repoUrls);
+    }
+
+    private void readCacheFile(Collection<String> repoUrls) {
+        final long lastModified;
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile)) {
+            lastModified = Files.getLastModifiedTime(cacheFile).toMillis();
+            String s;
+            while ((s = reader.readLine()) != null) {
+                lines.add(s);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + cacheFile, e);
+        }
+        final long now = System.currentTimeMillis();
+        boolean rewrite = false;
+        for (String line : lines) {
+            if (line.isBlank()) {
+                rewrite = true;
+                continue;
+            }
+            final String[] parts = line.split("\t");
+            final Entry e;
+            if (parts.length == 1) {
+                e = new Entry(lastModified, new TreeSet<>(repoUrls));
+                rewrite = true;
+            } else {
+                try {
+                    e = new Entry(Long.parseLong(parts[1]),
+                            parts.length > 2 ? new TreeSet<>(List.of(parts[2].split(","))) : Set.of());
+                } catch (NumberFormatException ex) {
+                    rewrite = true;
+                    continue;
+                }
+            }
+            if (isExpired(e, now) || entries.put(ArtifactCoords.fromString(parts[0]), e) != null) {
+                rewrite = true;
+            }
+        }
+        if (rewrite) {
+            rewriteCacheFile(now);
+        }
+    }
+
+    private void rewriteCacheFile(long now) {
+        final Path tmp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp)) {
+                for (Map.Entry<ArtifactCoords, Entry> e : entries.entrySet()) {
+                    if (isExpired(e.getValue(), now)) {
+                        entries.remove(e.getKey(), e.getValue());
+                    } else {
+                        writer.write(toLine(e.getKey(), e.getValue()));
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to rewrite " + cacheFile + ": " + e.getLocalizedMessage());
+        }
+    }
+}
@@ -2,7 +2,9 @@ package io.quarkus.bom.task;
 
 import java.util.Collection;
 import java.util.Deque;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Phaser;
 
@@ -11,21 +13,61 @@ public class ParallelTaskScheduler implements PlatformGenTaskScheduler {
     private final Phaser phaser = new Phaser(1);
     private final Deque<Exception> errors = new ConcurrentLinkedDeque<>();
     private final Deque<PlatformGenTask> finalizingTasks = new ConcurrentLinkedDeque<>();
+    /**
+     * Completion of the named tasks, which completes exceptionally if a task failed or was skipped
+     */
+    private final Map<String, CompletableFuture<Void>> namedTasks = new ConcurrentHashMap<>();
 
     @Override
     public void schedule(PlatformGenTask task) {
         phaser.register();
-        CompletableFuture.runAsync(() -> {
-            try {
-                task.run();
-            } catch (Exception e) {
-                errors.add(e);
-            } finally {
+        CompletableFuture.runAsync(() -> run(task, null));
+    }
+
+    @Override
+    public void schedule(String name, Collection<String> dependencies, PlatformGenTask task) {
+        final CompletableFuture<?>[] deps = new CompletableFuture<?>[dependencies.size()];
+        int i = 0;
+        for (String dep : dependencies) {
+            final CompletableFuture<Void> f = namedTasks.get(dep);
+            if (f == null) {
+                throw new IllegalArgumentException(
+                        "Task " + (name == null ? "" : name + " ") + "depends on task " + dep + " that has not been scheduled");
+            }
+            deps[i++] = f;
+        }
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        if (name != null && namedTasks.putIfAbsent(name, completion) != null) {
+            throw new IllegalArgumentException("Task " + name + " has already been scheduled");
+        }
+        phaser.register();
+        CompletableFuture.allOf(deps).whenComplete((ignored, depError) -> {
+            if (depError == null) {
+                CompletableFuture.runAsync(() -> run(task, completion));
+            } else {
+                // the failure has already been recorded by the task that failed
+                completion.completeExceptionally(depError);
                 phaser.arriveAndDeregister();
             }
         });
     }
 
+    private void run(PlatformGenTask task, CompletableFuture<Void> completion) {
+        try {
+            task.run();
+            if (completion != null) {
+                completion.complete(null);
+            }
+        } catch (Exception e) {
+            errors.add(e);
+            if (completion != null) {
+                completion.completeExceptionally(e);
+            }
+        } finally {
+            phaser.arriveAndDeregister();
+        }
+    }
+
     @Override
     public void addFinializingTask(PlatformGenTask task) {
         finalizingTasks.add(task);
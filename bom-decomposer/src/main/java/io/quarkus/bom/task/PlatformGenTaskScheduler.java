@@ -12,6 +12,23 @@ public interface PlatformGenTaskScheduler {
 
     void schedule(PlatformGenTask task) throws Exception;
 
+    /**
+     * Schedules a task that will be run once all the tasks it depends on have completed.
+     * If any of the tasks it depends on fails, the task will not be run.
+     * <p>
+     * The dependencies must have been scheduled before the task that depends on them, which rules out cycles.
+     * <p>
+     * Dependencies only order the tasks, tasks do not pass outputs to each other. A task that needs the results
+     * of the tasks it depends on reads them from the state those tasks updated, which is visible to it since
+     * the task is run only after the tasks it depends on have completed.
+     *
+     * @param name name of the task other tasks could depend on or null, if no other task depends on it
+     * @param dependencies names of the tasks this task depends on
+     * @param task task to run
+     * @throws Exception in case the task could not be scheduled or, in case of a sequential scheduler, failed
+     */
+    void schedule(String name, Collection<String> dependencies, PlatformGenTask task) throws Exception;
+
     void addFinializingTask(PlatformGenTask task) throws Exception;
 
     void waitForCompletion() throws Exception;
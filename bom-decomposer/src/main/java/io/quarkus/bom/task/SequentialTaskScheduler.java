@@ -1,15 +1,54 @@
 package io.quarkus.bom.task;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class SequentialTaskScheduler implements PlatformGenTaskScheduler {
 
+    private final Set<String> completedTasks = new HashSet<>();
+    private final Set<String> failedTasks = new HashSet<>();
+
     @Override
     public void schedule(PlatformGenTask task) throws Exception {
         task.run();
     }
 
+    @Override
+    public void schedule(String name, Collection<String> dependencies, PlatformGenTask task) throws Exception {
+        boolean skip = false;
+        for (String dep : dependencies) {
+            if (failedTasks.contains(dep)) {
+                skip = true;
+            } else if (!completedTasks.contains(dep)) {
+                throw new IllegalArgumentException(
+                        "Task " + (name == null ? "" : name + " ") + "depends on task " + dep + " that has not been scheduled");
+            }
+        }
+        if (name != null && (completedTasks.contains(name) || failedTasks.contains(name))) {
+            throw new IllegalArgumentException("Task " + name + " has already been scheduled");
+        }
+        if (skip) {
+            // the failure has already been reported by the task that failed
+            if (name != null) {
+                failedTasks.add(name);
+            }
+            return;
+        }
+        try {
+            task.run();
+        } catch (Exception e) {
+            if (name != null) {
+                failedTasks.add(name);
+            }
+            throw e;
+        }
+        if (name != null) {
+            completedTasks.add(name);
+        }
+    }
+
     @Override
     public void addFinializingTask(PlatformGenTask task) throws Exception {
         task.run();
@@ -0,0 +1,70 @@
+package io.quarkus.bom.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs independent tasks that return results using a thread pool of a bounded size.
+ * <p>
+ * Unless parallel task execution was disabled with the {@code sequentialTaskScheduler} system property,
+ * in which case the tasks are run one after another in the calling thread.
+ */
+public class TaskInvoker {
+
+    /**
+     * Runs the tasks using a pool with at most the requested number of threads and returns their results
+     * in the order of the tasks.
+     * <p>
+     * If a task fails, the exception it threw is re-thrown as is.
+     *
+     * @param tasks tasks to run
+     * @param parallelism maximum number of tasks running at the same time, a non-positive value
+     *        means the number of available processors
+     * @return results of the tasks in the order of the tasks
+     * @throws Exception exception thrown by the first failed task, in the order of the tasks
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks, int parallelism) throws Exception {
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        parallelism = PlatformGenTaskScheduler.IS_PARALLEL_DEFAULT ? Math.min(parallelism, tasks.size()) : 1;
+        final List<T> result = new ArrayList<>(tasks.size());
+        if (parallelism <= 1) {
+            for (Callable<T> task : tasks) {
+                result.add(task.call());
+            }
+            return result;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (Future<T> f : executor.invokeAll(tasks)) {
+                try {
+                    result.add(f.get());
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof Exception) {
+                        throw (Exception) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private TaskInvoker() {
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.bom.decomposer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.domino.scm.ScmRepository;
+import io.quarkus.domino.scm.ScmRevision;
+import io.quarkus.domino.scm.ScmRevisionResolver;
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.Dependency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DecompositionCacheTest {
+
+    private static final Artifact BOM = new DefaultArtifact("org.acme", "acme-bom", "pom", "1.0");
+    private static final List<Dependency> DEPS = List.of(
+            dependency("org.acme:acme-foo:1.0"),
+            dependency("org.acme:acme-bar:1.0"),
+            dependency("org.other:other-lib:2.0"),
+            dependency("org.other:other-lib:jar:tests:2.0"));
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    public void revisionsAreReplayed() {
+        final Map<ArtifactCoords, ScmRevision> revisions = new HashMap<>();
+        revisions.put(ArtifactCoords.jar("org.acme", "acme-foo", "1.0"),
+                ScmRevision.tag(ScmRepository.ofUrl("https://github.com/acme/acme"), "1.0"));
+        revisions.put(ArtifactCoords.jar("org.acme", "acme-bar", "1.0"),
+                ScmRevision.commit(ScmRepository.ofUrl("https://github.com/acme/acme"), "0123abcd"));
+        revisions.put(ArtifactCoords.jar("org.other", "other-lib", "2.0"),
+                ScmRevision.version(ScmRepository.ofId("org.other:other-parent"), "2.0"));
+        revisions.put(ArtifactCoords.of("org.other", "other-lib", "tests", "jar", "2.0"),
+                ScmRevision.branch(ScmRepository.ofUrl("https://github.com/other/other"), "main"));
+
+        final List<ReleaseIdDetector> detectors = List.of(new ConfiguredDetector("a"));
+        assertNull(new DecompositionCache(cacheDir, BOM, DEPS, detectors).read());
+        new DecompositionCache(cacheDir, BOM, DEPS, detectors).write(revisions, Map.of());
+        assertEquals(revisions, new DecompositionCache(cacheDir, BOM, DEPS, detectors).read().revisions);
+    }
+
+    @Test
+    public void differentInputsAreNotReplayed() {
+        final List<ReleaseIdDetector> detectors = List.of(new ConfiguredDetector("a"));
+        new DecompositionCache(cacheDir, BOM, DEPS, detectors).write(Map.of(ArtifactCoords.jar("org.acme", "acme-foo", "1.0"),
+                ScmRevision.tag(ScmRepository.ofUrl("https://github.com/acme/acme"), "1.0")), Map.of());
+
+        // different detector configuration
+        assertNull(new DecompositionCache(cacheDir, BOM, DEPS, List.of(new ConfiguredDetector("b"))).read());
+        // different detectors
+        assertNull(new DecompositionCache(cacheDir, BOM, DEPS, List.of()).read());
+        // different constraints
+        assertNull(new DecompositionCache(cacheDir, BOM, DEPS.subList(0, 2), detectors).read());
+    }
+
+    @Test
+    public void snapshotsAreNotCached() throws Exception {
+        final List<Dependency> deps = List.of(dependency("org.acme:acme-foo:1.0-SNAPSHOT"));
+        final DecompositionCache cache = new DecompositionCache(cacheDir, BOM, deps, List.of());
+        cache.write(Map.of(ArtifactCoords.jar("org.acme", "acme-foo", "1.0-SNAPSHOT"),
+                ScmRevision.tag(ScmRepository.ofUrl("https://github.com/acme/acme"), "1.0")), Map.of());
+        assertNull(cache.read());
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void unresolvedDependenciesExpire() {
+        final ArtifactCoords foo = ArtifactCoords.jar("org.acme", "acme-foo", "1.0");
+        final ArtifactCoords bar = ArtifactCoords.jar("org.acme", "acme-bar", "1.0");
+        final ArtifactCoords lib = ArtifactCoords.jar("org.other", "other-lib", "2.0");
+        final long now = System.currentTimeMillis();
+        final long recent = now - Duration.ofHours(1).toMillis();
+        final long expired = now - DecompositionCache.UNRESOLVED_TTL.plusHours(1).toMillis();
+        new DecompositionCache(cacheDir, BOM, DEPS, List.of()).write(
+                Map.of(foo, ScmRevision.tag(ScmRepository.ofUrl("https://github.com/acme/acme"), "1.0")),
+                Map.of(bar, recent, lib, expired));
+
+        final DecompositionCache.Entry entry = new DecompositionCache(cacheDir, BOM, DEPS, List.of()).read();
+        assertEquals(Map.of(bar, recent, lib, expired), entry.unresolved);
+        assertFalse(entry.isUnresolved(foo, now));
+        assertTrue(entry.isUnresolved(bar, now));
+        // expired records are looked up again, since the artifacts may have been published in the meantime
+        assertFalse(entry.isUnresolved(lib, now));
+        // so will artifacts missing in cache entries written before unresolved dependencies were recorded
+        assertFalse(entry.isUnresolved(ArtifactCoords.of("org.other", "other-lib", "tests", "jar", "2.0"), now));
+    }
+
+    private static Dependency dependency(String coords) {
+        return new Dependency(new DefaultArtifact(coords), null);
+    }
+
+    private static class ConfiguredDetector implements ReleaseIdDetector {
+
+        private final String config;
+
+        ConfiguredDetector(String config) {
+            this.config = config;
+        }
+
+        @Override
+        public ScmRevision detectReleaseId(ScmRevisionResolver releaseResolver, Artifact artifact) {
+            return null;
+        }
+
+        @Override
+        public String getCacheKey() {
+            return ReleaseIdDetector.super.getCacheKey() + ':' + config;
+        }
+    }
+}
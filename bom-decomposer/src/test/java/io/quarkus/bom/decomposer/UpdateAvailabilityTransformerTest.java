@@ -0,0 +1,126 @@
+package io.quarkus.bom.decomposer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.bom.resolver.ArtifactResolver;
+import io.quarkus.bootstrap.resolver.maven.MavenArtifactResolver;
+import io.quarkus.devtools.messagewriter.MessageWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.junit.jupiter.api.Test;
+
+public class UpdateAvailabilityTransformerTest {
+
+    private final StubArtifactResolver resolver = new StubArtifactResolver();
+    private final UpdateAvailabilityTransformer transformer = new UpdateAvailabilityTransformer(resolver,
+            MessageWriter.info());
+
+    @Test
+    public void listedVersionIsAvailable() {
+        resolver.setAvailableVersions("org.acme", "acme-foo", "1.0", "1.1");
+        assertTrue(transformer.isAvailable(new DefaultArtifact("org.acme:acme-foo:1.1")));
+        assertEquals(List.of(), resolver.resolved);
+    }
+
+    @Test
+    public void versionThatIsNotListedIsNotAvailable() {
+        resolver.setAvailableVersions("org.acme", "acme-foo", "1.0", "1.1");
+        resolver.addResolvable("org.acme:acme-foo:1.2");
+        assertFalse(transformer.isAvailable(new DefaultArtifact("org.acme:acme-foo:1.2")));
+        assertEquals(List.of(), resolver.resolved);
+    }
+
+    @Test
+    public void artifactIsResolvedIfMetadataIsEmpty() {
+        resolver.addResolvable("org.acme:acme-foo:1.1");
+        assertTrue(transformer.isAvailable(new DefaultArtifact("org.acme:acme-foo:1.1")));
+        assertFalse(transformer.isAvailable(new DefaultArtifact("org.acme:acme-foo:1.2")));
+        assertEquals(List.of("org.acme:acme-foo:jar:1.1", "org.acme:acme-foo:jar:1.2"), resolver.resolved);
+        // the metadata is requested once per groupId and artifactId
+        assertEquals(List.of("org.acme:acme-foo"), resolver.metadataRequests);
+    }
+
+    @Test
+    public void classifiedArtifactIsConfirmedByResolving() {
+        resolver.setAvailableVersions("org.acme", "acme-foo", "1.0", "1.1");
+        resolver.addResolvable("org.acme:acme-foo:jar:tests:1.1");
+        assertTrue(transformer.isAvailable(new DefaultArtifact("org.acme:acme-foo:jar:tests:1.1")));
+        assertFalse(transformer.isAvailable(new DefaultArtifact("org.acme:acme-foo:jar:sources:1.1")));
+        assertEquals(List.of("org.acme:acme-foo:jar:tests:1.1", "org.acme:acme-foo:jar:sources:1.1"), resolver.resolved);
+
+        // a version that is not listed is not resolved
+        resolver.resolved.clear();
+        assertFalse(transformer.isAvailable(new DefaultArtifact("org.acme:acme-foo:jar:tests:1.2")));
+        assertEquals(List.of(), resolver.resolved);
+    }
+
+    private static class StubArtifactResolver implements ArtifactResolver {
+
+        private final Map<String, List<String>> availableVersions = new HashMap<>();
+        private final Set<String> resolvable = new HashSet<>();
+        private final List<String> metadataRequests = new ArrayList<>();
+        private final List<String> resolved = new ArrayList<>();
+
+        private void setAvailableVersions(String groupId, String artifactId, String... versions) {
+            availableVersions.put(groupId + ":" + artifactId, List.of(versions));
+        }
+
+        private void addResolvable(String coords) {
+            resolvable.add(new DefaultArtifact(coords).toString());
+        }
+
+        @Override
+        public Path getBaseDir() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MavenArtifactResolver underlyingResolver() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ArtifactResult resolve(Artifact a) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ArtifactResult resolve(Artifact a, List<RemoteRepository> repos) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ArtifactResult resolveOrNull(Artifact a) {
+            resolved.add(a.toString());
+            if (!resolvable.contains(a.toString())) {
+                return null;
+            }
+            return new ArtifactResult(new ArtifactRequest().setArtifact(a)).setArtifact(a);
+        }
+
+        @Override
+        public ArtifactDescriptorResult describe(Artifact a) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> getAvailableVersions(String groupId, String artifactId) {
+            final String ga = groupId + ":" + artifactId;
+            metadataRequests.add(ga);
+            return availableVersions.getOrDefault(ga, List.of());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.quarkus.bom.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex.ExtensionDescriptor;
+import io.quarkus.bootstrap.BootstrapConstants;
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ExtensionDescriptorIndexTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void descriptorsAreReadFromArchives() throws Exception {
+        final Path extension = extensionJar("acme.jar", "1.0");
+        final Path library = workDir.resolve("library.jar");
+        writeJar(library, "org/acme/Library.class", "class");
+
+        final ExtensionDescriptorIndex index = new ExtensionDescriptorIndex(workDir.resolve("index.idx"));
+        final ExtensionDescriptor descriptor = index.getDescriptor(extension);
+        assertNotNull(descriptor);
+        assertTrue(descriptor.hasProperties());
+        assertTrue(descriptor.hasMetadata());
+        assertEquals(ArtifactCoords.jar("org.acme", "acme-deployment", "1.0"), descriptor.getDeploymentArtifact());
+        assertEquals("name: Acme\n", descriptor.getMetadata());
+        assertNull(index.getDescriptor(library));
+    }
+
+    @Test
+    public void persistedDescriptorsAreReused() throws Exception {
+        final Path extension = extensionJar("acme.jar", "1.0");
+        final Path indexFile = workDir.resolve("index.idx");
+        final ExtensionDescriptorIndex index = new ExtensionDescriptorIndex(indexFile);
+        assertNotNull(index.getDescriptor(extension));
+        index.flush();
+        assertEquals(2, Files.readAllLines(indexFile).size());
+
+        // corrupt the JAR keeping its size and last modified time to make sure it is not read again
+        final FileTime lastModified = Files.getLastModifiedTime(extension);
+        final byte[] garbage = new byte[(int) Files.size(extension)];
+        Arrays.fill(garbage, (byte) 1);
+        Files.write(extension, garbage);
+        Files.setLastModifiedTime(extension, lastModified);
+
+        final ExtensionDescriptor descriptor = new ExtensionDescriptorIndex(indexFile).getDescriptor(extension);
+        assertNotNull(descriptor);
+        assertEquals(ArtifactCoords.jar("org.acme", "acme-deployment", "1.0"), descriptor.getDeploymentArtifact());
+    }
+
+    @Test
+    public void changedArchivesAreReadAgain() throws Exception {
+        final Path extension = extensionJar("acme.jar", "1.0");
+        final Path indexFile = workDir.resolve("index.idx");
+        final ExtensionDescriptorIndex index = new ExtensionDescriptorIndex(indexFile);
+        assertNotNull(index.getDescriptor(extension));
+        index.flush();
+
+        // a different size
+        extensionJar("acme.jar", "1.0.1");
+        assertEquals(ArtifactCoords.jar("org.acme", "acme-deployment", "1.0.1"),
+                new ExtensionDescriptorIndex(indexFile).getDescriptor(extension).getDeploymentArtifact());
+
+        // the same size and a different last modified time
+        extensionJar("acme.jar", "1.0.2");
+        Files.setLastModifiedTime(extension, FileTime.fromMillis(Files.getLastModifiedTime(extension).toMillis() + 10000));
+        assertEquals(ArtifactCoords.jar("org.acme", "acme-deployment", "1.0.2"),
+                new ExtensionDescriptorIndex(indexFile).getDescriptor(extension).getDeploymentArtifact());
+    }
+
+    @Test
+    public void supersededLinesAreCompacted() throws Exception {
+        final Path extension = extensionJar("acme.jar", "1.0");
+        final Path indexFile = workDir.resolve("index.idx");
+        ExtensionDescriptorIndex index = new ExtensionDescriptorIndex(indexFile);
+        index.getDescriptor(extension);
+        index.flush();
+
+        extensionJar("acme.jar", "1.0.1");
+        index = new ExtensionDescriptorIndex(indexFile);
+        index.getDescriptor(extension);
+        index.flush();
+        Files.writeString(indexFile, "corrupted line\n", StandardOpenOption.APPEND);
+        final List<String> lines = Files.readAllLines(indexFile);
+        assertEquals(4, lines.size());
+
+        // loading the index rewrites it with only the current entries
+        final ExtensionDescriptor descriptor = new ExtensionDescriptorIndex(indexFile).getDescriptor(extension);
+        assertEquals(ArtifactCoords.jar("org.acme", "acme-deployment", "1.0.1"), descriptor.getDeploymentArtifact());
+        assertEquals(List.of(lines.get(0), lines.get(2)), Files.readAllLines(indexFile));
+    }
+
+    private Path extensionJar(String name, String version) throws IOException {
+        final Path jar = workDir.resolve(name);
+        writeJar(jar, BootstrapConstants.DESCRIPTOR_PATH,
+                BootstrapConstants.PROP_DEPLOYMENT_ARTIFACT + "=org.acme:acme-deployment:" + version + "\n",
+                BootstrapConstants.EXTENSION_METADATA_PATH, "name: Acme\n");
+        return jar;
+    }
+
+    private static void writeJar(Path jar, String... entries) throws IOException {
+        try (OutputStream os = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(os)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                zip.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+}
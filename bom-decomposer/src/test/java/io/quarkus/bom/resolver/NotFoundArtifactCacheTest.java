@@ -0,0 +1,164 @@
+package io.quarkus.bom.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NotFoundArtifactCacheTest {
+
+    private static final String CENTRAL = "https://repo.maven.apache.org/maven2";
+    private static final String ACME = "https://maven.acme.org/releases";
+    private static final ArtifactCoords FOO = ArtifactCoords.jar("org.acme", "foo", "1.0");
+    private static final ArtifactCoords BAR = ArtifactCoords.jar("org.acme", "bar", "1.0");
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void recordsArePersisted() {
+        final Path cacheFile = workDir.resolve("not-found-artifacts.txt");
+        final NotFoundArtifactCache cache = new NotFoundArtifactCache(cacheFile, Duration.ofDays(1), List.of());
+        cache.record(FOO, List.of(CENTRAL));
+        assertTrue(cache.isRecorded(FOO, List.of(CENTRAL)));
+        assertFalse(cache.isRecorded(BAR, List.of(CENTRAL)));
+        cache.close();
+
+        final NotFoundArtifactCache reloaded = new NotFoundArtifactCache(cacheFile, Duration.ofDays(1), List.of());
+        assertTrue(reloaded.isRecorded(FOO, List.of(CENTRAL)));
+        assertFalse(reloaded.isRecorded(BAR, List.of(CENTRAL)));
+    }
+
+    @Test
+    public void recordsApplyToTheSameOrSubsetOfRepositories() {
+        final NotFoundArtifactCache cache = new NotFoundArtifactCache(workDir.resolve("not-found-artifacts.txt"),
+                Duration.ofDays(1), List.of());
+        cache.record(FOO, List.of(CENTRAL, ACME));
+        cache.record(BAR, List.of(CENTRAL));
+        assertTrue(cache.isRecorded(FOO, List.of(ACME, CENTRAL)));
+        assertTrue(cache.isRecorded(FOO, List.of(ACME)));
+        assertTrue(cache.isRecorded(BAR, List.of(CENTRAL)));
+        assertFalse(cache.isRecorded(BAR, List.of(CENTRAL, ACME)));
+        assertFalse(cache.isRecorded(BAR, List.of(ACME)));
+        cache.close();
+    }
+
+    @Test
+    public void expiredRecordsAreIgnoredAndRemoved() throws Exception {
+        final Path cacheFile = workDir.resolve("not-found-artifacts.txt");
+        final long expired = System.currentTimeMillis() - Duration.ofDays(2).toMillis();
+        final long recent = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+        Files.write(cacheFile, List.of(
+                FOO + "\t" + expired + "\t" + CENTRAL,
+                BAR + "\t" + recent + "\t" + CENTRAL));
+
+        final NotFoundArtifactCache cache = new NotFoundArtifactCache(cacheFile, Duration.ofDays(1), List.of());
+        assertFalse(cache.isRecorded(FOO, List.of(CENTRAL)));
+        assertTrue(cache.isRecorded(BAR, List.of(CENTRAL)));
+        assertEquals(List.of(BAR + "\t" + recent + "\t" + CENTRAL), Files.readAllLines(cacheFile));
+    }
+
+    @Test
+    public void supersededRecordsAreCompacted() throws Exception {
+        final Path cacheFile = workDir.resolve("not-found-artifacts.txt");
+        final long earlier = System.currentTimeMillis() - Duration.ofHours(2).toMillis();
+        final long later = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+        Files.write(cacheFile, List.of(
+                FOO + "\t" + earlier + "\t" + CENTRAL,
+                FOO + "\t" + later + "\t" + ACME + "," + CENTRAL));
+
+        final NotFoundArtifactCache cache = new NotFoundArtifactCache(cacheFile, Duration.ofDays(1), List.of());
+        assertTrue(cache.isRecorded(FOO, List.of(ACME)));
+        assertEquals(List.of(FOO + "\t" + later + "\t" + ACME + "," + CENTRAL), Files.readAllLines(cacheFile));
+    }
+
+    @Test
+    public void legacyRecordsAreMigrated() throws Exception {
+        final Path cacheFile = workDir.resolve("not-found-artifacts.txt");
+        Files.write(cacheFile, List.of(FOO.toString()));
+        final long lastModified = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+        Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(lastModified));
+
+        final NotFoundArtifactCache cache = new NotFoundArtifactCache(cacheFile, Duration.ofDays(1), List.of(CENTRAL));
+        assertTrue(cache.isRecorded(FOO, List.of(CENTRAL)));
+        assertFalse(cache.isRecorded(FOO, List.of(ACME)));
+        // the record is stamped once with the time the file was last modified
+        assertEquals(List.of(FOO + "\t" + lastModified + "\t" + CENTRAL), Files.readAllLines(cacheFile));
+    }
+
+    @Test
+    public void expiredLegacyRecordsAreRemoved() throws Exception {
+        final Path cacheFile = workDir.resolve("not-found-artifacts.txt");
+        Files.write(cacheFile, List.of(FOO.toString()));
+        Files.setLastModifiedTime(cacheFile,
+                FileTime.fromMillis(System.currentTimeMillis() - Duration.ofDays(2).toMillis()));
+
+        final NotFoundArtifactCache cache = new NotFoundArtifactCache(cacheFile, Duration.ofDays(1), List.of(CENTRAL));
+        assertFalse(cache.isRecorded(FOO, List.of(CENTRAL)));
+        assertEquals(List.of(), Files.readAllLines(cacheFile));
+    }
+
+    @Test
+    public void instanceIsSharedPerFile() {
+        final Path cacheFile = workDir.resolve("not-found-artifacts.txt");
+        final NotFoundArtifactCache cache = NotFoundArtifactCache.getInstance(cacheFile, List.of());
+        assertSame(cache, NotFoundArtifactCache.getInstance(workDir.resolve(".").resolve("not-found-artifacts.txt"),
+                List.of()));
+        cache.record(FOO, List.of(CENTRAL));
+        cache.close();
+
+        final NotFoundArtifactCache reloaded = NotFoundArtifactCache.getInstance(cacheFile, List.of());
+        try {
+            assertNotSame(cache, reloaded);
+            assertTrue(reloaded.isRecorded(FOO, List.of(CENTRAL)));
+        } finally {
+            reloaded.close();
+        }
+    }
+
+    @Test
+    public void recordsArePersistedWithoutClosing() throws Exception {
+        final Path cacheFile = workDir.resolve("not-found-artifacts.txt");
+        final NotFoundArtifactCache cache = NotFoundArtifactCache.getInstance(cacheFile, List.of());
+        try {
+            cache.record(FOO, List.of(CENTRAL));
+            final long deadline = System.currentTimeMillis() + 10000;
+            while ((!Files.exists(cacheFile) || Files.size(cacheFile) == 0)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            final NotFoundArtifactCache reloaded = new NotFoundArtifactCache(cacheFile, Duration.ofDays(1), List.of());
+            assertTrue(reloaded.isRecorded(FOO, List.of(CENTRAL)));
+        } finally {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void instanceIsReloadedIfFileChanges() throws Exception {
+        final Path cacheFile = workDir.resolve("not-found-artifacts.txt");
+        final NotFoundArtifactCache cache = NotFoundArtifactCache.getInstance(cacheFile, List.of());
+        assertFalse(cache.isRecorded(FOO, List.of(CENTRAL)));
+
+        // another build records the artifact
+        Files.write(cacheFile, List.of(FOO + "\t" + System.currentTimeMillis() + "\t" + CENTRAL));
+
+        final NotFoundArtifactCache reloaded = NotFoundArtifactCache.getInstance(cacheFile, List.of());
+        try {
+            assertNotSame(cache, reloaded);
+            assertTrue(reloaded.isRecorded(FOO, List.of(CENTRAL)));
+        } finally {
+            reloaded.close();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkus.bom.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+public class ParallelTaskSchedulerTest {
+
+    private final List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void dependentsRunAfterDependencies() throws Exception {
+        final ParallelTaskScheduler scheduler = new ParallelTaskScheduler();
+        scheduler.schedule("a", List.of(), () -> {
+            Thread.sleep(100);
+            completed.add("a");
+        });
+        scheduler.schedule("b", List.of("a"), () -> completed.add("b"));
+        scheduler.schedule("c", List.of("a", "b"), () -> completed.add("c"));
+        scheduler.waitForCompletion();
+        assertFalse(scheduler.hasErrors());
+        assertEquals(List.of("a", "b", "c"), completed);
+    }
+
+    @Test
+    public void dependentsOfFailedTaskAreSkipped() throws Exception {
+        final ParallelTaskScheduler scheduler = new ParallelTaskScheduler();
+        final Exception failure = new Exception("a failed");
+        scheduler.schedule("a", List.of(), () -> {
+            throw failure;
+        });
+        scheduler.schedule("b", List.of("a"), () -> completed.add("b"));
+        scheduler.schedule("c", List.of("b"), () -> completed.add("c"));
+        scheduler.schedule("d", List.of(), () -> completed.add("d"));
+        scheduler.waitForCompletion();
+        assertEquals(List.of("d"), completed);
+        // only the failure of the task itself is reported
+        assertTrue(scheduler.hasErrors());
+        assertEquals(1, scheduler.getErrors().size());
+        assertSame(failure, scheduler.getErrors().iterator().next());
+    }
+
+    @Test
+    public void unknownDependency() throws Exception {
+        final ParallelTaskScheduler scheduler = new ParallelTaskScheduler();
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule("a", List.of("b"), () -> completed.add("a")));
+        scheduler.waitForCompletion();
+        assertEquals(List.of(), completed);
+    }
+
+    @Test
+    public void duplicateName() throws Exception {
+        final ParallelTaskScheduler scheduler = new ParallelTaskScheduler();
+        scheduler.schedule("a", List.of(), () -> completed.add("a"));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule("a", List.of(), () -> completed.add("a")));
+        scheduler.waitForCompletion();
+        assertEquals(List.of("a"), completed);
+    }
+
+    @Test
+    public void waitForCompletionWaitsForPendingDependents() throws Exception {
+        final ParallelTaskScheduler scheduler = new ParallelTaskScheduler();
+        final CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule("a", List.of(), () -> {
+            latch.await();
+            completed.add("a");
+        });
+        scheduler.schedule("b", List.of("a"), () -> completed.add("b"));
+        scheduler.schedule("c", List.of("b"), () -> completed.add("c"));
+        scheduler.addFinializingTask(() -> completed.add("finalizing"));
+        new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            latch.countDown();
+        }).start();
+        scheduler.waitForCompletion();
+        assertFalse(scheduler.hasErrors());
+        assertEquals(List.of("a", "b", "c", "finalizing"), completed);
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.bom.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SequentialTaskSchedulerTest {
+
+    private final List<String> completed = new ArrayList<>();
+
+    @Test
+    public void dependentsRunAfterDependencies() throws Exception {
+        final SequentialTaskScheduler scheduler = new SequentialTaskScheduler();
+        scheduler.schedule("a", List.of(), () -> completed.add("a"));
+        scheduler.schedule("b", List.of("a"), () -> completed.add("b"));
+        scheduler.schedule("c", List.of("a", "b"), () -> completed.add("c"));
+        scheduler.waitForCompletion();
+        assertFalse(scheduler.hasErrors());
+        assertEquals(List.of("a", "b", "c"), completed);
+    }
+
+    @Test
+    public void dependentsOfFailedTaskAreSkipped() throws Exception {
+        final SequentialTaskScheduler scheduler = new SequentialTaskScheduler();
+        final Exception failure = new Exception("a failed");
+        assertSame(failure, assertThrows(Exception.class, () -> scheduler.schedule("a", List.of(), () -> {
+            throw failure;
+        })));
+        scheduler.schedule("b", List.of("a"), () -> completed.add("b"));
+        scheduler.schedule("c", List.of("b"), () -> completed.add("c"));
+        scheduler.schedule("d", List.of(), () -> completed.add("d"));
+        scheduler.waitForCompletion();
+        assertEquals(List.of("d"), completed);
+    }
+
+    @Test
+    public void unknownDependency() {
+        final SequentialTaskScheduler scheduler = new SequentialTaskScheduler();
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule("a", List.of("b"), () -> completed.add("a")));
+        assertEquals(List.of(), completed);
+    }
+
+    @Test
+    public void duplicateName() throws Exception {
+        final SequentialTaskScheduler scheduler = new SequentialTaskScheduler();
+        scheduler.schedule("a", List.of(), () -> completed.add("a"));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule("a", List.of(), () -> completed.add("a")));
+        assertEquals(List.of("a"), completed);
+    }
+
+    @Test
+    public void waitForCompletionRunsNothingPending() throws Exception {
+        final SequentialTaskScheduler scheduler = new SequentialTaskScheduler();
+        scheduler.schedule("a", List.of(), () -> completed.add("a"));
+        scheduler.schedule("b", List.of("a"), () -> completed.add("b"));
+        // tasks and finalizing tasks are run as soon as they are scheduled
+        scheduler.addFinializingTask(() -> completed.add("finalizing"));
+        assertEquals(List.of("a", "b", "finalizing"), completed);
+        scheduler.waitForCompletion();
+        assertEquals(List.of("a", "b", "finalizing"), completed);
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.bom.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class TaskInvokerTest {
+
+    @Test
+    public void resultsAreReturnedInTaskOrder() throws Exception {
+        final List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            final int result = i;
+            tasks.add(() -> {
+                Thread.sleep(10 - result);
+                return result;
+            });
+        }
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), TaskInvoker.invokeAll(tasks, 4));
+    }
+
+    @Test
+    public void parallelismIsBounded() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return null;
+            });
+        }
+        TaskInvoker.invokeAll(tasks, 2);
+        assertTrue(maxRunning.get() <= 2, "at most 2 tasks expected to run at the same time but was " + maxRunning);
+    }
+
+    @Test
+    public void taskFailureIsRethrown() {
+        final Exception failure = new Exception("b failed");
+        final List<Callable<String>> tasks = List.of(
+                () -> "a",
+                () -> {
+                    throw failure;
+                },
+                () -> "c");
+        assertSame(failure, assertThrows(Exception.class, () -> TaskInvoker.invokeAll(tasks, 2)));
+        assertSame(failure, assertThrows(Exception.class, () -> TaskInvoker.invokeAll(tasks, 1)));
+    }
+}
@@ -0,0 +1,256 @@
+package io.quarkus.domino;
+
+import io.quarkus.domino.manifest.PncArtifactBuildInfo;
+import io.quarkus.domino.manifest.PncArtifactBuildInfo.Build;
+import io.quarkus.domino.manifest.PncArtifactBuildInfo.Content;
+import io.quarkus.maven.dependency.GAV;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.jboss.logging.Logger;
+
+/**
+ * Persistent PNC build info cache stored as a single append-only log file, which is indexed in memory on first access.
+ * Only the fields used by Domino are persisted: the hashes and the build info of the first artifact returned by PNC.
+ * Artifacts not found in PNC are recorded as well, so that they are not requested again.
+ * <p>
+ * Each line of the log has the following tab-separated format
+ * {@code groupId:artifactId:version md5 sha1 sha256 build-id scm-url scm-revision scm-tag}, where missing values are
+ * empty. A line that includes only the GAV represents an artifact not found in PNC. Later lines override earlier ones.
+ * <p>
+ * Build info cached using the previous layout, i.e. a JSON file per artifact under
+ * {@code <cache-dir>/<groupId>/<artifactId>/<version>/pnc-build-info.json}, is migrated to the log automatically.
+ */
+class PncBuildInfoCache {
+
+    private static final Logger log = Logger.getLogger(PncBuildInfoCache.class);
+
+    private static final String HEADER = "# Domino PNC build info v1";
+    private static final String LOG_FILE_NAME = "pnc-build-info.tsv";
+    private static final String LEGACY_FILE_NAME = "pnc-build-info.json";
+    private static final int FIELDS_TOTAL = 8;
+
+    private final Path cacheDir;
+    private final Path logFile;
+    private Map<GAV, PncArtifactBuildInfo> index;
+
+    PncBuildInfoCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+        this.logFile = cacheDir.resolve(LOG_FILE_NAME);
+    }
+
+    synchronized boolean contains(GAV gav) {
+        return getIndex().containsKey(gav);
+    }
+
+    synchronized PncArtifactBuildInfo get(GAV gav) {
+        return getIndex().get(gav);
+    }
+
+    synchronized void put(GAV gav, PncArtifactBuildInfo buildInfo) {
+        putAll(Map.of(gav, buildInfo));
+    }
+
+    synchronized void putAll(Map<GAV, PncArtifactBuildInfo> buildInfos) {
+        if (buildInfos.isEmpty()) {
+            return;
+        }
+        final Map<GAV, PncArtifactBuildInfo> index = getIndex();
+        try {
+            append(buildInfos);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist PNC build info to " + logFile, e);
+        }
+        for (Map.Entry<GAV, PncArtifactBuildInfo> e : buildInfos.entrySet()) {
+            // keep only the persisted fields, so the result does not depend on whether it was read from the log
+            index.put(e.getKey(), fromFields(toFields(e.getKey(), e.getValue())));
+        }
+    }
+
+    private Map<GAV, PncArtifactBuildInfo> getIndex() {
+        if (index == null) {
+            index = new HashMap<>();
+            if (Files.exists(logFile)) {
+                readLog();
+            }
+            migrateLegacyCache();
+        }
+        return index;
+    }
+
+    private void readLog() {
+        try (BufferedReader reader = Files.newBufferedReader(logFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                final String[] fields = line.split("\t", -1);
+                if (fields.length != 1 && fields.length != FIELDS_TOTAL) {
+                    // a partially written line
+                    continue;
+                }
+                final GAV gav = parseGav(fields[0]);
+                if (gav != null) {
+                    index.put(gav, fromFields(fields));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read PNC build info from " + logFile + ": " + e.getLocalizedMessage());
+        }
+    }
+
+    private void migrateLegacyCache() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        final List<Path> legacyFiles;
+        try (Stream<Path> stream = Files.walk(cacheDir)) {
+            legacyFiles = stream.filter(p -> p.getFileName().toString().equals(LEGACY_FILE_NAME)).toList();
+        } catch (IOException e) {
+            log.warn("Failed to look for legacy PNC build info under " + cacheDir + ": " + e.getLocalizedMessage());
+            return;
+        }
+        if (legacyFiles.isEmpty()) {
+            return;
+        }
+        log.infof("Migrating %s cached PNC build info files to %s", legacyFiles.size(), logFile);
+        final Map<GAV, PncArtifactBuildInfo> migrated = new HashMap<>(legacyFiles.size());
+        for (Path p : legacyFiles) {
+            final Path relative = cacheDir.relativize(p);
+            if (relative.getNameCount() != 4) {
+                continue;
+            }
+            final GAV gav = new GAV(relative.getName(0).toString(), relative.getName(1).toString(),
+                    relative.getName(2).toString());
+            if (index.containsKey(gav)) {
+                continue;
+            }
+            try {
+                migrated.put(gav, PncArtifactBuildInfo.deserialize(p));
+            } catch (UncheckedIOException e) {
+                log.debug("Skipping " + p + ": " + e.getLocalizedMessage());
+            }
+        }
+        try {
+            append(migrated);
+        } catch (IOException e) {
+            log.warn("Failed to migrate PNC build info to " + logFile + ": " + e.getLocalizedMessage());
+            return;
+        }
+        for (Map.Entry<GAV, PncArtifactBuildInfo> e : migrated.entrySet()) {
+            index.put(e.getKey(), fromFields(toFields(e.getKey(), e.getValue())));
+        }
+        deleteLegacyCache();
+    }
+
+    private void deleteLegacyCache() {
+        try (Stream<Path> stream = Files.walk(cacheDir)) {
+            for (Path p : stream.sorted(Comparator.reverseOrder()).toList()) {
+                if (p.equals(cacheDir) || p.equals(logFile)) {
+                    continue;
+                }
+                if (Files.isDirectory(p)) {
+                    try (Stream<Path> children = Files.list(p)) {
+                        if (children.findAny().isPresent()) {
+                            continue;
+                        }
+                    }
+                } else if (!p.getFileName().toString().equals(LEGACY_FILE_NAME)) {
+                    continue;
+                }
+                Files.delete(p);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete legacy PNC build info under " + cacheDir + ": " + e.getLocalizedMessage());
+        }
+    }
+
+    private void append(Map<GAV, PncArtifactBuildInfo> buildInfos) throws IOException {
+        if (buildInfos.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(cacheDir);
+        final boolean writeHeader = !Files.exists(logFile);
+        try (BufferedWriter writer = Files.newBufferedWriter(logFile, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            if (writeHeader) {
+                writer.write(HEADER);
+                writer.newLine();
+            }
+            for (Map.Entry<GAV, PncArtifactBuildInfo> e : buildInfos.entrySet()) {
+                writer.write(String.join("\t", toFields(e.getKey(), e.getValue())));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static String[] toFields(GAV gav, PncArtifactBuildInfo buildInfo) {
+        final String gavStr = gav.getGroupId() + ":" + gav.getArtifactId() + ":" + gav.getVersion();
+        final Content content = PncArtifactBuildInfo.getContent(buildInfo);
+        if (content == null) {
+            return new String[] { gavStr };
+        }
+        final Build build = content.getBuild();
+        return new String[] {
+                gavStr,
+                toField(content.getMd5()),
+                toField(content.getSha1()),
+                toField(content.getSha256()),
+                toField(build == null ? null : build.getId()),
+                toField(build == null ? null : build.getScmUrl()),
+                toField(build == null ? null : build.getScmRevision()),
+                toField(build == null ? null : build.getScmTag())
+        };
+    }
+
+    private static String toField(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private static PncArtifactBuildInfo fromFields(String[] fields) {
+        final PncArtifactBuildInfo buildInfo = new PncArtifactBuildInfo();
+        if (fields.length == 1) {
+            buildInfo.setContent(List.of());
+            return buildInfo;
+        }
+        final Content content = new Content();
+        content.setMd5(fromField(fields[1]));
+        content.setSha1(fromField(fields[2]));
+        content.setSha256(fromField(fields[3]));
+        if (!fields[4].isEmpty() || !fields[5].isEmpty() || !fields[6].isEmpty() || !fields[7].isEmpty()) {
+            final Build build = new Build();
+            build.setId(fromField(fields[4]));
+            build.setScmUrl(fromField(fields[5]));
+            build.setScmRevision(fromField(fields[6]));
+            build.setScmTag(fromField(fields[7]));
+            content.setBuild(build);
+        }
+        final List<Content> list = new ArrayList<>(1);
+        list.add(content);
+        buildInfo.setContent(list);
+        return buildInfo;
+    }
+
+    private static String fromField(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static GAV parseGav(String s) {
+        final String[] parts = s.split(":");
+        return parts.length == 3 ? new GAV(parts[0], parts[1], parts[2]) : null;
+    }
+}
@@ -1,66 +1,224 @@
 package io.quarkus.domino;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.quarkus.bootstrap.util.PropertyUtils;
 import io.quarkus.domino.manifest.PncArtifactBuildInfo;
+import io.quarkus.maven.dependency.GAV;
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
-import java.nio.file.Files;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.jboss.logging.Logger;
 
 public class PncBuildInfoProvider {
 
     private static final String DOT_DOMINO = ".domino";
     private static final String PNC_BUILD_INFO = "pnc-build-info";
-    private static final String PNC_BUILD_INFO_JSON = PNC_BUILD_INFO + ".json";
+    private static final String DEFAULT_PNC_URL = "https://orch.pnc.engineering.redhat.com";
+    private static final String ARTIFACTS_PATH = "/pnc-rest/v2/artifacts";
+
+    /**
+     * Maximum number of artifact identifiers included in a single query
+     */
+    static final int DEFAULT_BATCH_SIZE = 50;
+    /**
+     * Maximum number of concurrent requests
+     */
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
 
     private static Logger log = Logger.getLogger(PncBuildInfoProvider.class);
 
-    private final Path cacheDir;
+    private final String pncUrl;
+    private final PncBuildInfoCache cache;
+    private final int batchSize;
+    private final int maxConcurrentRequests;
 
     public PncBuildInfoProvider() {
-        cacheDir = Path.of(PropertyUtils.getUserHome()).resolve(DOT_DOMINO).resolve(PNC_BUILD_INFO);
+        this(DEFAULT_PNC_URL, Path.of(PropertyUtils.getUserHome()).resolve(DOT_DOMINO).resolve(PNC_BUILD_INFO),
+                DEFAULT_BATCH_SIZE, DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    PncBuildInfoProvider(String pncUrl, Path cacheDir, int batchSize, int maxConcurrentRequests) {
+        this.pncUrl = pncUrl;
+        this.cache = new PncBuildInfoCache(cacheDir);
+        this.batchSize = batchSize;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    String getPncUrl() {
+        return pncUrl;
     }
 
     public PncArtifactBuildInfo getBuildInfo(String groupId, String artifactId, String version) {
         if (!RhVersionPattern.isRhVersion(version)) {
             return null;
         }
-        final Path cachedJson = cacheDir.resolve(groupId).resolve(artifactId).resolve(version)
-                .resolve(PNC_BUILD_INFO_JSON);
-        if (Files.exists(cachedJson)) {
-            return PncArtifactBuildInfo.deserialize(cachedJson);
+        final GAV gav = new GAV(groupId, artifactId, version);
+        PncArtifactBuildInfo buildInfo = cache.get(gav);
+        if (buildInfo != null) {
+            return buildInfo;
         }
+        buildInfo = query(List.of(gav)).get(gav);
+        if (buildInfo == null) {
+            return null;
+        }
+        cache.put(gav, buildInfo);
+        return cache.get(gav);
+    }
 
-        final URL url;
-        try {
-            url = new URL("https", "orch.pnc.engineering.redhat.com", 443,
-                    "/pnc-rest/v2/artifacts?q=identifier==%22"
-                            + groupId + ":"
-                            + artifactId + ":pom:"
-                            + version
-                            + "%22");
-            log.infof("Requesting build info %s", url);
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("Failed to parse URL", e);
+    /**
+     * Requests build info for all the artifacts that are not found in the cache. Identifiers of the artifacts
+     * are queried in batches, with a limited number of concurrent requests. Calls to
+     * {@link #getBuildInfo(String, String, String)} for the pre-fetched artifacts will not require any
+     * further requests.
+     *
+     * @param artifacts artifacts to request build info for
+     */
+    public void prefetchBuildInfo(Collection<GAV> artifacts) {
+        final Set<GAV> uncached = new LinkedHashSet<>();
+        for (GAV gav : artifacts) {
+            if (RhVersionPattern.isRhVersion(gav.getVersion()) && !cache.contains(gav)) {
+                uncached.add(gav);
+            }
         }
-        final PncArtifactBuildInfo buildInfo;
-        try {
-            final URLConnection connection = url.openConnection();
-            buildInfo = PncArtifactBuildInfo.deserialize(connection.getInputStream());
-        } catch (IOException e) {
-            log.warn("Failed to connect to " + url + ": " + e.getLocalizedMessage());
-            return null;
+        if (uncached.isEmpty()) {
+            return;
+        }
+        final List<List<GAV>> batches = new ArrayList<>((uncached.size() + batchSize - 1) / batchSize);
+        List<GAV> batch = null;
+        for (GAV gav : uncached) {
+            if (batch == null || batch.size() == batchSize) {
+                batch = new ArrayList<>(batchSize);
+                batches.add(batch);
+            }
+            batch.add(gav);
         }
+        log.infof("Requesting build info for %s artifacts", uncached.size());
 
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrentRequests, batches.size()));
         try {
-            PncArtifactBuildInfo.serialize(buildInfo, cachedJson);
-        } catch (IOException e) {
-            throw new UncheckedIOException("Failed to serialize " + buildInfo + " to " + cachedJson, e);
+            final CompletableFuture<?>[] tasks = new CompletableFuture<?>[batches.size()];
+            for (int i = 0; i < tasks.length; ++i) {
+                final List<GAV> gavs = batches.get(i);
+                tasks[i] = CompletableFuture.runAsync(() -> {
+                    Map<GAV, PncArtifactBuildInfo> result = query(gavs);
+                    if (result.isEmpty() && gavs.size() > 1) {
+                        // the request failed, fallback to querying one artifact at a time
+                        result = new HashMap<>(gavs.size());
+                        for (GAV gav : gavs) {
+                            result.putAll(query(List.of(gav)));
+                        }
+                    }
+                    cache.putAll(result);
+                }, executor);
+            }
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Queries build info for artifacts. The returned map will be empty if the request failed.
+     * Otherwise, it will include an entry for every artifact, with empty content for artifacts
+     * that weren't found.
+     *
+     * @param gavs artifacts to query build info for
+     * @return build info per artifact
+     */
+    private Map<GAV, PncArtifactBuildInfo> query(List<GAV> gavs) {
+        final Map<String, GAV> gavsByIdentifier = new HashMap<>(gavs.size());
+        final StringBuilder q = new StringBuilder();
+        if (gavs.size() == 1) {
+            q.append("identifier==");
+            appendIdentifier(q, gavs.get(0), gavsByIdentifier);
+        } else {
+            q.append("identifier=in=(");
+            for (int i = 0; i < gavs.size(); ++i) {
+                if (i > 0) {
+                    q.append(',');
+                }
+                appendIdentifier(q, gavs.get(i), gavsByIdentifier);
+            }
+            q.append(')');
         }
-        return buildInfo;
+
+        final Map<GAV, PncArtifactBuildInfo> result = new HashMap<>(gavs.size());
+        int pageIndex = 0;
+        int totalPages = 1;
+        while (pageIndex < totalPages) {
+            final URL url;
+            try {
+                url = new URL(pncUrl + ARTIFACTS_PATH
+                        + "?pageIndex=" + pageIndex
+                        + "&pageSize=" + Math.max(DEFAULT_BATCH_SIZE, gavs.size() * 2)
+                        + "&q=" + URLEncoder.encode(q.toString(), StandardCharsets.UTF_8));
+                log.debugf("Requesting build info %s", url);
+            } catch (MalformedURLException e) {
+                throw new RuntimeException("Failed to parse URL", e);
+            }
+            final PncArtifactBuildInfo page;
+            try {
+                final URLConnection connection = url.openConnection();
+                final JsonNode json;
+                try (InputStream is = connection.getInputStream()) {
+                    json = PncArtifactBuildInfo.getMapper().readTree(is);
+                }
+                page = PncArtifactBuildInfo.getMapper().treeToValue(json, PncArtifactBuildInfo.class);
+                totalPages = json.path("totalPages").asInt(1);
+            } catch (IOException e) {
+                log.warn("Failed to connect to " + url + ": " + e.getLocalizedMessage());
+                return Map.of();
+            }
+            if (page.getContent() != null) {
+                for (PncArtifactBuildInfo.Content content : page.getContent()) {
+                    final GAV gav = gavsByIdentifier.get(content.getIdentifier());
+                    if (gav == null) {
+                        continue;
+                    }
+                    var buildInfo = result.computeIfAbsent(gav, k -> {
+                        var info = new PncArtifactBuildInfo();
+                        info.setContent(new ArrayList<>(1));
+                        return info;
+                    });
+                    buildInfo.getContent().add(content);
+                }
+            }
+            ++pageIndex;
+        }
+        for (GAV gav : gavs) {
+            result.computeIfAbsent(gav, k -> {
+                var info = new PncArtifactBuildInfo();
+                info.setContent(List.of());
+                return info;
+            });
+        }
+        return result;
+    }
+
+    private static void appendIdentifier(StringBuilder q, GAV gav, Map<String, GAV> gavsByIdentifier) {
+        final String identifier = gav.getGroupId() + ":" + gav.getArtifactId() + ":pom:" + gav.getVersion();
+        gavsByIdentifier.put(identifier, gav);
+        q.append('"').append(identifier).append('"');
     }
 }
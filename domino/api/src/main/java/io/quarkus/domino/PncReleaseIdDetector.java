@@ -35,6 +35,11 @@ public class PncReleaseIdDetector implements ReleaseIdDetector {
         return repoUrl == null || tag == null ? null : ScmRevision.tag(ScmRepository.ofUrl(repoUrl), tag);
     }
 
+    @Override
+    public String getCacheKey() {
+        return getClass().getName() + '@' + pncInfoProvider.getPncUrl();
+    }
+
     private static String getRepoUrl(Build build) {
         return build == null ? null : build.getScmUrl();
     }
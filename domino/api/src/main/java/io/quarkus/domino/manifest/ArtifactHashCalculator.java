@@ -0,0 +1,258 @@
+package io.quarkus.domino.manifest;
+
+import io.quarkus.bootstrap.util.PropertyUtils;
+import io.quarkus.domino.DominoInfo;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cyclonedx.Version;
+import org.cyclonedx.model.Hash;
+import org.jboss.logging.Logger;
+
+/**
+ * Calculates artifact hashes for SBOM components. Instances of this class are thread-safe.
+ * <p>
+ * All the configured digests are calculated in a single pass over a memory-mapped file.
+ * Calculated hashes are cached, keyed by the path, the size and the last modified time of a file,
+ * and can be persisted to a file to be re-used by later runs. New entries are appended to the cache file,
+ * once the file contains superseded entries it is rewritten with only the current ones.
+ */
+class ArtifactHashCalculator {
+
+    private static final Logger log = Logger.getLogger(ArtifactHashCalculator.class);
+
+    private static final String ARTIFACT_HASHES_TXT = "artifact-hashes.txt";
+
+    /**
+     * Maximum size of a memory-mapped file region
+     */
+    private static final long MAX_REGION_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Default location of the persistent hash cache
+     *
+     * @return default location of the persistent hash cache
+     */
+    static Path getDefaultCacheFile() {
+        return Path.of(PropertyUtils.getUserHome()).resolve(DominoInfo.CONFIG_DIR_NAME).resolve(ARTIFACT_HASHES_TXT);
+    }
+
+    /**
+     * Hash algorithms that are supported by a given CycloneDX schema version, following the same order as
+     * {@link org.cyclonedx.util.BomUtils#calculateHashes(java.io.File, Version)}.
+     *
+     * @param schemaVersion CycloneDX schema version
+     * @return hash algorithms
+     */
+    static List<String> getAlgorithms(Version schemaVersion) {
+        if (schemaVersion == Version.VERSION_10) {
+            return List.of("MD5", "SHA-1", "SHA-256", "SHA-384", "SHA-512");
+        }
+        return List.of("MD5", "SHA-1", "SHA-256", "SHA-384", "SHA-512", "SHA3-256", "SHA3-384", "SHA3-512");
+    }
+
+    private static class CachedHashes {
+        final long size;
+        final long lastModified;
+        final Map<String, String> hashes;
+
+        CachedHashes(long size, long lastModified, Map<String, String> hashes) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hashes = hashes;
+        }
+
+        boolean isValid(long size, long lastModified, List<String> algorithms) {
+            return this.size == size && this.lastModified == lastModified && hashes.keySet().containsAll(algorithms);
+        }
+    }
+
+    private final List<String> algorithms;
+    private final Path cacheFile;
+    private final Map<Path, CachedHashes> cache = new ConcurrentHashMap<>();
+    private final Map<Path, CachedHashes> newEntries = new ConcurrentHashMap<>();
+    private boolean compact;
+
+    ArtifactHashCalculator(List<String> algorithms, Path cacheFile) {
+        this.algorithms = algorithms;
+        this.cacheFile = cacheFile;
+        if (cacheFile != null) {
+            readCache();
+        }
+    }
+
+    /**
+     * Returns hashes for a file, calculating them if they are not found in the cache.
+     *
+     * @param path file to calculate hashes for
+     * @return hashes in the order of the configured algorithms
+     */
+    List<Hash> calculate(Path path) {
+        path = path.toAbsolutePath().normalize();
+        final BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read attributes of " + path, e);
+        }
+        final long size = attrs.size();
+        final long lastModified = attrs.lastModifiedTime().toMillis();
+        CachedHashes cached = cache.get(path);
+        if (cached == null || !cached.isValid(size, lastModified, algorithms)) {
+            cached = new CachedHashes(size, lastModified, digest(path, algorithms));
+            cache.put(path, cached);
+            newEntries.put(path, cached);
+        }
+        final List<Hash> result = new ArrayList<>(algorithms.size());
+        for (String alg : algorithms) {
+            final String value = cached.hashes.get(alg);
+            if (value != null) {
+                result.add(new Hash(alg, value));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates digests of a file in a single pass over its content.
+     *
+     * @param path file
+     * @param algorithms digest algorithms
+     * @return digests in hex format keyed by their algorithms
+     */
+    static Map<String, String> digest(Path path, List<String> algorithms) {
+        final List<MessageDigest> digests = new ArrayList<>(algorithms.size());
+        for (String alg : algorithms) {
+            try {
+                digests.add(MessageDigest.getInstance(alg));
+            } catch (NoSuchAlgorithmException e) {
+                log.warn("Failed to initialize a message digest with algorithm " + alg + ": " + e.getLocalizedMessage());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                final long regionSize = Math.min(MAX_REGION_SIZE, size - position);
+                final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+                for (MessageDigest md : digests) {
+                    region.rewind();
+                    md.update(region);
+                }
+                position += regionSize;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to calculate hashes for " + path, e);
+        }
+        final Map<String, String> result = new ConcurrentHashMap<>(digests.size());
+        final HexFormat hex = HexFormat.of();
+        for (MessageDigest md : digests) {
+            result.put(md.getAlgorithm(), hex.formatHex(md.digest()));
+        }
+        return result;
+    }
+
+    /**
+     * Appends hashes calculated since the cache was loaded to the persistent cache file.
+     * If the cache file contained superseded or corrupted entries, it is rewritten with only the current entries.
+     */
+    synchronized void persist() {
+        if (cacheFile == null || newEntries.isEmpty() && !compact) {
+            return;
+        }
+        try {
+            if (cacheFile.getParent() != null) {
+                Files.createDirectories(cacheFile.getParent());
+            }
+            if (compact) {
+                final Path tmp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(tmp)) {
+                    for (Map.Entry<Path, CachedHashes> e : cache.entrySet()) {
+                        writeEntry(writer, e.getKey(), e.getValue());
+                    }
+                }
+                Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                compact = false;
+            } else {
+                try (BufferedWriter writer = Files.newBufferedWriter(cacheFile, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND)) {
+                    for (Map.Entry<Path, CachedHashes> e : newEntries.entrySet()) {
+                        writeEntry(writer, e.getKey(), e.getValue());
+                    }
+                }
+            }
+            newEntries.clear();
+        } catch (IOException e) {
+            log.warn("Failed to persist artifact hashes to " + cacheFile + ": " + e.getLocalizedMessage());
+        }
+    }
+
+    private static void writeEntry(BufferedWriter writer, Path path, CachedHashes cached) throws IOException {
+        writer.write(path.toString());
+        writer.write('\t');
+        writer.write(String.valueOf(cached.size));
+        writer.write('\t');
+        writer.write(String.valueOf(cached.lastModified));
+        writer.write('\t');
+        boolean first = true;
+        for (Map.Entry<String, String> hash : cached.hashes.entrySet()) {
+            if (first) {
+                first = false;
+            } else {
+                writer.write(';');
+            }
+            writer.write(hash.getKey());
+            writer.write('=');
+            writer.write(hash.getValue());
+        }
+        writer.newLine();
+    }
+
+    private void readCache() {
+        if (!Files.exists(cacheFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile)) {
+            int lines = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ++lines;
+                final String[] parts = line.split("\t");
+                if (parts.length != 4) {
+                    continue;
+                }
+                final Map<String, String> hashes = new ConcurrentHashMap<>();
+                for (String hash : parts[3].split(";")) {
+                    final int eq = hash.indexOf('=');
+                    if (eq > 0) {
+                        hashes.put(hash.substring(0, eq), hash.substring(eq + 1));
+                    }
+                }
+                try {
+                    // later entries override earlier ones
+                    cache.put(Path.of(parts[0]),
+                            new CachedHashes(Long.parseLong(parts[1]), Long.parseLong(parts[2]), hashes));
+                } catch (NumberFormatException e) {
+                    // skip corrupted entries
+                }
+            }
+            compact = lines > cache.size();
+        } catch (IOException e) {
+            log.warn("Failed to read artifact hashes from " + cacheFile + ": " + e.getLocalizedMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.quarkus.domino.manifest;
+
+import io.quarkus.domino.scm.ScmRevision;
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.apache.maven.model.Model;
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.parsers.JsonParser;
+import org.jboss.logging.Logger;
+
+/**
+ * Caches component metadata, such as the publisher, the description, licenses and external references, extracted
+ * from effective models of released artifacts. Instances of this class are thread-safe.
+ * <p>
+ * If a cache directory is configured, metadata extracted for released (non-SNAPSHOT) artifacts is persisted under
+ * {@code <cache-dir>/<groupId>/<artifactId>/<version>/cdx-<schema-version>.json}, so that subsequent runs
+ * do not have to resolve effective models for artifacts that have already been seen. Otherwise, the metadata
+ * is cached only in memory.
+ */
+class ComponentMetadataCache {
+
+    private static final Logger log = Logger.getLogger(ComponentMetadataCache.class);
+
+    private final Path cacheDir;
+    private final Version schemaVersion;
+    private final boolean resolveLicenses;
+    private final Map<String, Component> cache = new ConcurrentHashMap<>();
+
+    ComponentMetadataCache(Path cacheDir, Version schemaVersion, boolean resolveLicenses) {
+        this.cacheDir = cacheDir;
+        this.schemaVersion = schemaVersion;
+        this.resolveLicenses = resolveLicenses;
+    }
+
+    /**
+     * Initializes component metadata from the cache, falling back to extracting it from the effective model
+     * of the artifact, in which case the extracted metadata is added to the cache.
+     *
+     * @param coords artifact coordinates
+     * @param releaseId release the artifact belongs to
+     * @param component target component
+     * @param modelSupplier effective model supplier that will be called in case the metadata is not found in the cache
+     */
+    void extractMetadata(ArtifactCoords coords, ScmRevision releaseId, Component component, Supplier<Model> modelSupplier) {
+        final String gav = coords.getGroupId() + ':' + coords.getArtifactId() + ':' + coords.getVersion();
+        Component metadata = cache.get(gav);
+        if (metadata == null) {
+            final Path cachedFile = getCachedFile(coords);
+            if (cachedFile != null) {
+                metadata = readMetadata(cachedFile);
+            }
+            if (metadata == null) {
+                metadata = new Component();
+                // licenses are always extracted to keep the cached metadata independent of the current configuration
+                ManifestGenerator.extractModelMetadata(modelSupplier.get(), metadata, schemaVersion, true);
+                if (cachedFile != null) {
+                    persistMetadata(metadata, cachedFile);
+                }
+            }
+            cache.put(gav, metadata);
+        }
+
+        component.setPublisher(metadata.getPublisher());
+        component.setDescription(metadata.getDescription());
+        if (resolveLicenses) {
+            // licenses and external references are copied since they may be modified by transformers
+            component.setLicenses(ManifestGenerator.copyLicenses(metadata.getLicenses()));
+        }
+        if (metadata.getExternalReferences() != null) {
+            final List<ExternalReference> refs = new ArrayList<>(metadata.getExternalReferences().size());
+            for (ExternalReference cachedRef : metadata.getExternalReferences()) {
+                final ExternalReference ref = new ExternalReference();
+                ref.setType(cachedRef.getType());
+                ref.setUrl(cachedRef.getUrl());
+                ref.setComment(cachedRef.getComment());
+                refs.add(ref);
+            }
+            component.setExternalReferences(refs);
+        }
+        ManifestGenerator.addVcsReference(releaseId, component, schemaVersion);
+    }
+
+    private Path getCachedFile(ArtifactCoords coords) {
+        if (cacheDir == null || coords.getVersion().endsWith("-SNAPSHOT")) {
+            return null;
+        }
+        return cacheDir.resolve(coords.getGroupId()).resolve(coords.getArtifactId()).resolve(coords.getVersion())
+                .resolve("cdx-" + schemaVersion.getVersionString() + ".json");
+    }
+
+    private static Component readMetadata(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            final Bom bom = new JsonParser().parse(file.toFile());
+            return bom.getComponents() == null || bom.getComponents().isEmpty() ? null : bom.getComponents().get(0);
+        } catch (Exception e) {
+            log.debug("Failed to read cached component metadata from " + file + ": " + e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    private void persistMetadata(Component metadata, Path file) {
+        final Component c = new Component();
+        c.setType(Component.Type.LIBRARY);
+        c.setName(file.getParent().getParent().getFileName().toString());
+        c.setPublisher(metadata.getPublisher());
+        c.setDescription(metadata.getDescription());
+        c.setLicenses(metadata.getLicenses());
+        c.setExternalReferences(metadata.getExternalReferences());
+        final Bom bom = new Bom();
+        bom.addComponent(c);
+        try {
+            final String json = BomGeneratorFactory.createJson(schemaVersion, bom).toJsonString();
+            Files.createDirectories(file.getParent());
+            final Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, json);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            log.warn("Failed to persist component metadata to " + file + ": " + e.getLocalizedMessage());
+        }
+    }
+}
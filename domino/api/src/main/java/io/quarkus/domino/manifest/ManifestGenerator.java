@@ -46,6 +46,10 @@ public class ManifestGenerator {
         private List<SbomTransformer> transformers = List.of();
         private String schemaVersion;
         private boolean resolveLicenses = true;
+        private boolean streamOutput;
+        private Path effectiveModelCacheDir;
+        private Path previousSbom;
+        private Path metadataCacheDir;
 
         private Builder() {
         }
@@ -78,6 +82,26 @@ public class ManifestGenerator {
             return this;
         }
 
+        public Builder setStreamOutput(boolean streamOutput) {
+            this.streamOutput = streamOutput;
+            return this;
+        }
+
+        public Builder setEffectiveModelCacheDir(Path effectiveModelCacheDir) {
+            this.effectiveModelCacheDir = effectiveModelCacheDir;
+            return this;
+        }
+
+        public Builder setMetadataCacheDir(Path metadataCacheDir) {
+            this.metadataCacheDir = metadataCacheDir;
+            return this;
+        }
+
+        public Builder setPreviousSbom(Path previousSbom) {
+            this.previousSbom = previousSbom;
+            return this;
+        }
+
         private Version getSchemaVersion() {
             if (schemaVersion == null) {
                 return Collections.max(List.of(Version.values()));
@@ -125,14 +149,21 @@ public class ManifestGenerator {
     private final List<SbomTransformer> transformers;
     private final Version schemaVersion;
     private final boolean resolveLicenses;
+    private final boolean streamOutput;
+    private final PreviousSbom previousSbom;
+    private final ComponentMetadataCache metadataCache;
 
     private ManifestGenerator(Builder builder) {
         artifactResolver = builder.getInitializedResolver();
-        effectiveModelResolver = new EffectiveModelResolver(artifactResolver);
+        effectiveModelResolver = new EffectiveModelResolver(artifactResolver,
+                EffectiveModelResolver.DEFAULT_MAX_CACHED_MODELS, builder.effectiveModelCacheDir);
         outputFile = builder.outputFile;
         transformers = builder.transformers;
         schemaVersion = builder.getSchemaVersion();
         resolveLicenses = builder.resolveLicenses;
+        streamOutput = builder.streamOutput;
+        previousSbom = builder.previousSbom == null ? null : PreviousSbom.read(builder.previousSbom);
+        metadataCache = new ComponentMetadataCache(builder.metadataCacheDir, schemaVersion, resolveLicenses);
     }
 
     public Consumer<Collection<ReleaseRepo>> toConsumer() {
@@ -147,6 +178,11 @@ public class ManifestGenerator {
 
             bom = runTransformers(bom);
 
+            if (streamOutput && outputFile != null) {
+                SbomJsonStreamWriter.write(bom, schemaVersion, outputFile);
+                return;
+            }
+
             final String bomString;
             try {
                 bomString = BomGeneratorFactory.createJson(schemaVersion, bom).toJsonString();
@@ -173,29 +209,39 @@ public class ManifestGenerator {
     }
 
     private void addComponent(Bom bom, ReleaseRepo release, ArtifactCoords coords, List<RemoteRepository> repos) {
-        final Model model = effectiveModelResolver.resolveEffectiveModel(coords, repos);
-        final Component c = new Component();
-        extractMetadata(release.getRevision(), model, c, schemaVersion, resolveLicenses);
-        if (c.getPublisher() == null) {
-            c.setPublisher("central");
-        }
-        c.setGroup(coords.getGroupId());
-        c.setName(coords.getArtifactId());
-        c.setVersion(coords.getVersion());
         final TreeMap<String, String> qualifiers = new TreeMap<>();
         qualifiers.put("type", coords.getType());
         if (!coords.getClassifier().isEmpty()) {
             qualifiers.put("classifier", coords.getClassifier());
         }
+        final PackageURL purl;
         try {
-            c.setPurl(new PackageURL(PackageURL.StandardTypes.MAVEN,
+            purl = new PackageURL(PackageURL.StandardTypes.MAVEN,
                     coords.getGroupId(),
                     coords.getArtifactId(),
                     coords.getVersion(),
-                    qualifiers, null));
+                    qualifiers, null);
         } catch (MalformedPackageURLException e) {
             throw new RuntimeException("Failed to generate Purl for " + coords.toCompactCoords(), e);
         }
+        if (previousSbom != null) {
+            final Component c = previousSbom.copyComponent(purl.toString(), List.of(), null, false, resolveLicenses);
+            if (c != null) {
+                bom.addComponent(c);
+                return;
+            }
+        }
+
+        final Component c = new Component();
+        metadataCache.extractMetadata(coords, release.getRevision(), c,
+                () -> effectiveModelResolver.resolveEffectiveModel(coords, repos));
+        if (c.getPublisher() == null) {
+            c.setPublisher("central");
+        }
+        c.setGroup(coords.getGroupId());
+        c.setName(coords.getArtifactId());
+        c.setVersion(coords.getVersion());
+        c.setPurl(purl);
 
         final List<Property> props = new ArrayList<>(2);
         addProperty(props, "package:type", "maven");
@@ -236,7 +282,22 @@ public class ManifestGenerator {
         return bom;
     }
 
-    static void extractMetadata(ScmRevision releaseId, Model project, Component component, Version schemaVersion,
+    static void addVcsReference(ScmRevision releaseId, Component component, Version schemaVersion) {
+        if (Version.VERSION_10 != schemaVersion
+                && !doesComponentHaveExternalReference(component, ExternalReference.Type.VCS)) {
+            addExternalReference(ExternalReference.Type.VCS, releaseId.origin().toString(), component);
+        }
+    }
+
+    /**
+     * Extracts component metadata that depends only on the effective model of the component.
+     *
+     * @param project effective model
+     * @param component target component
+     * @param schemaVersion CycloneDX schema version
+     * @param resolveLicenses whether to resolve licenses
+     */
+    static void extractModelMetadata(Model project, Component component, Version schemaVersion,
             boolean resolveLicenses) {
         if (component.getPublisher() == null) {
             // If we don't already have publisher information, retrieve it.
@@ -298,9 +359,6 @@ public class ManifestGenerator {
                     }
                 }
             }
-            if (!doesComponentHaveExternalReference(component, ExternalReference.Type.VCS)) {
-                addExternalReference(ExternalReference.Type.VCS, releaseId.origin().toString(), component);
-            }
         }
     }
 
@@ -334,6 +392,34 @@ public class ManifestGenerator {
         return licenseChoice;
     }
 
+    /**
+     * Creates a copy of a license choice, so that it could be modified independently of the original one.
+     *
+     * @param licenseChoice license choice to copy or null
+     * @return a copy of the license choice or null
+     */
+    static LicenseChoice copyLicenses(LicenseChoice licenseChoice) {
+        if (licenseChoice == null) {
+            return null;
+        }
+        final LicenseChoice copy = new LicenseChoice();
+        if (licenseChoice.getLicenses() != null) {
+            for (License license : licenseChoice.getLicenses()) {
+                final License licenseCopy = new License();
+                licenseCopy.setId(license.getId());
+                licenseCopy.setName(license.getName());
+                licenseCopy.setUrl(license.getUrl());
+                licenseCopy.setLicenseText(license.getAttachmentText());
+                copy.addLicense(licenseCopy);
+            }
+        }
+        if (licenseChoice.getExpression() != null) {
+            // setting an expression, even a null one, clears the licenses
+            copy.setExpression(licenseChoice.getExpression());
+        }
+        return copy;
+    }
+
     static boolean resolveLicenseInfo(LicenseChoice licenseChoice, LicenseChoice licenseChoiceToResolve,
             Version schemaVersion) {
         if (licenseChoiceToResolve != null) {
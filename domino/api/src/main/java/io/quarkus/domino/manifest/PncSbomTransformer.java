@@ -3,6 +3,7 @@ package io.quarkus.domino.manifest;
 import io.quarkus.domino.PncBuildInfoProvider;
 import io.quarkus.domino.RhVersionPattern;
 import io.quarkus.domino.manifest.PncArtifactBuildInfo.Content;
+import io.quarkus.maven.dependency.GAV;
 import java.util.ArrayList;
 import java.util.List;
 import org.cyclonedx.model.Bom;
@@ -23,13 +24,22 @@ public class PncSbomTransformer implements SbomTransformer {
 
     private static final Logger log = Logger.getLogger(PncSbomTransformer.class);
 
-    private final PncBuildInfoProvider pncInfoProvider = new PncBuildInfoProvider();
+    private final PncBuildInfoProvider pncInfoProvider;
+
+    public PncSbomTransformer() {
+        this(new PncBuildInfoProvider());
+    }
+
+    PncSbomTransformer(PncBuildInfoProvider pncInfoProvider) {
+        this.pncInfoProvider = pncInfoProvider;
+    }
 
     @Override
     public Bom transform(SbomTransformContext ctx) {
         log.debug("Adding PNC build info to the manifest");
         final Bom bom = ctx.getOriginalBom();
         final Component product = bom.getMetadata() == null ? null : bom.getMetadata().getComponent();
+        prefetchBuildInfo(product, bom.getComponents());
         if (product != null) {
             addBuildId(product,
                     getContent(pncInfoProvider.getBuildInfo(product.getGroup(), product.getName(), product.getVersion())));
@@ -43,8 +53,24 @@ public class PncSbomTransformer implements SbomTransformer {
         return bom;
     }
 
+    private void prefetchBuildInfo(Component product, List<Component> components) {
+        final List<GAV> gavs = new ArrayList<>(components == null ? 1 : components.size() + 1);
+        if (product != null && product.getVersion() != null) {
+            gavs.add(new GAV(product.getGroup(), product.getName(), product.getVersion()));
+        }
+        if (components != null) {
+            for (Component c : components) {
+                if (RhVersionPattern.isRhVersion(c.getVersion()) && !hasPncBuildInfo(c)) {
+                    gavs.add(new GAV(c.getGroup(), c.getName(), c.getVersion()));
+                }
+            }
+        }
+        pncInfoProvider.prefetchBuildInfo(gavs);
+    }
+
     private void addPncBuildInfo(Component c) {
-        if (!RhVersionPattern.isRhVersion(c.getVersion())) {
+        if (!RhVersionPattern.isRhVersion(c.getVersion()) || hasPncBuildInfo(c)) {
+            // components copied from a previously generated SBOM may already include the build info
             return;
         }
         final PncArtifactBuildInfo buildInfo = pncInfoProvider.getBuildInfo(c.getGroup(), c.getName(), c.getVersion());
@@ -72,7 +98,13 @@ public class PncSbomTransformer implements SbomTransformer {
         if (content == null || content.getBuild() == null) {
             log.warn("PNC build info not found for " + c.getGroup() + ":" + c.getName() + ":" + c.getVersion());
         } else {
-            final List<Property> props = new ArrayList<>(c.getProperties());
+            final List<Property> props = new ArrayList<>(c.getProperties().size() + 2);
+            for (Property p : c.getProperties()) {
+                // a component copied from a previously generated SBOM may include a build ID but not the hashes
+                if (!BUILD_ID.equals(p.getName()) && !BUILD_SYSTEM.equals(p.getName())) {
+                    props.add(p);
+                }
+            }
 
             Property prop = new Property();
             prop.setName(BUILD_ID);
@@ -87,6 +119,36 @@ public class PncSbomTransformer implements SbomTransformer {
         }
     }
 
+    /**
+     * Checks whether a component, copied from a previously generated SBOM, already includes everything
+     * {@link #addPncBuildInfo(Component)} adds: the build ID, the hashes and the MRRC distribution reference.
+     * A component copied with the hashes disabled will include the build ID but not the hashes.
+     *
+     * @param c component
+     * @return whether the component already includes the PNC build info
+     */
+    private static boolean hasPncBuildInfo(Component c) {
+        if (c.getHashes() == null || c.getHashes().isEmpty() || c.getExternalReferences() == null) {
+            return false;
+        }
+        boolean mrrc = false;
+        for (ExternalReference r : c.getExternalReferences()) {
+            if (ExternalReference.Type.DISTRIBUTION.equals(r.getType()) && MRRC_URL.equals(r.getUrl())) {
+                mrrc = true;
+                break;
+            }
+        }
+        if (!mrrc || c.getProperties() == null) {
+            return false;
+        }
+        for (Property p : c.getProperties()) {
+            if (BUILD_ID.equals(p.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     static void addMrrc(Component c) {
         c.setPublisher(PUBLISHER);
         final List<ExternalReference> externalRefs = c.getExternalReferences() == null ? new ArrayList<>()
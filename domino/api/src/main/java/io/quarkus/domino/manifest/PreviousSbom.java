@@ -0,0 +1,142 @@
+package io.quarkus.domino.manifest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.parsers.JsonParser;
+import org.jboss.logging.Logger;
+
+/**
+ * Components of a previously generated SBOM that can be re-used when generating a new SBOM.
+ * <p>
+ * A previously generated component is re-used if its purl and the purls of its direct dependencies
+ * match those of the component being generated, in which case its metadata, such as licenses, hashes,
+ * external references and properties, will be copied to the new SBOM instead of being resolved again.
+ * Licenses and hashes are copied only if they are enabled in the current configuration.
+ */
+class PreviousSbom {
+
+    private static final Logger log = Logger.getLogger(PreviousSbom.class);
+
+    static PreviousSbom read(Path sbomFile) {
+        if (!Files.exists(sbomFile)) {
+            log.warnf("Previous SBOM %s does not exist, all the components will be generated from scratch", sbomFile);
+            return new PreviousSbom(new Bom());
+        }
+        log.infof("Reading previous SBOM %s", sbomFile);
+        try {
+            return new PreviousSbom(new JsonParser().parse(sbomFile.toFile()));
+        } catch (ParseException e) {
+            throw new RuntimeException("Failed to parse " + sbomFile, e);
+        }
+    }
+
+    private static class PreviousComponent {
+        final Component component;
+        final Set<String> dependencyPurls;
+
+        PreviousComponent(Component component, Set<String> dependencyPurls) {
+            this.component = component;
+            this.dependencyPurls = dependencyPurls;
+        }
+    }
+
+    private final Map<String, List<PreviousComponent>> componentsByPurl;
+
+    private PreviousSbom(Bom bom) {
+        final List<Component> components = new ArrayList<>();
+        if (bom.getMetadata() != null && bom.getMetadata().getComponent() != null) {
+            components.add(bom.getMetadata().getComponent());
+        }
+        if (bom.getComponents() != null) {
+            components.addAll(bom.getComponents());
+        }
+        final Map<String, String> purlsByBomRef = new HashMap<>(components.size());
+        for (Component c : components) {
+            if (c.getBomRef() != null && c.getPurl() != null) {
+                purlsByBomRef.put(c.getBomRef(), c.getPurl());
+            }
+        }
+        final Map<String, Set<String>> depPurlsByBomRef = new HashMap<>();
+        if (bom.getDependencies() != null) {
+            for (Dependency d : bom.getDependencies()) {
+                if (d.getDependencies() == null || d.getDependencies().isEmpty()) {
+                    continue;
+                }
+                final Set<String> depPurls = new HashSet<>(d.getDependencies().size());
+                for (Dependency dep : d.getDependencies()) {
+                    depPurls.add(purlsByBomRef.getOrDefault(dep.getRef(), dep.getRef()));
+                }
+                depPurlsByBomRef.put(d.getRef(), depPurls);
+            }
+        }
+        componentsByPurl = new HashMap<>(components.size());
+        for (Component c : components) {
+            if (c.getPurl() == null) {
+                continue;
+            }
+            componentsByPurl.computeIfAbsent(c.getPurl(), k -> new ArrayList<>(1))
+                    .add(new PreviousComponent(c, depPurlsByBomRef.getOrDefault(c.getBomRef(), Set.of())));
+        }
+    }
+
+    /**
+     * Returns a copy of a previously generated component with the matching purl and dependencies or null,
+     * if no matching component was found.
+     *
+     * @param purl component purl
+     * @param dependencyPurls purls of the direct dependencies of the component
+     * @param bomRef bom-ref of the component in the new SBOM
+     * @param includeHashes whether hashes should be copied, in which case the previous component is required to
+     *        include them
+     * @param includeLicenses whether licenses should be copied
+     * @return a copy of a previously generated component or null
+     */
+    Component copyComponent(String purl, Collection<String> dependencyPurls, String bomRef, boolean includeHashes,
+            boolean includeLicenses) {
+        final List<PreviousComponent> candidates = componentsByPurl.get(purl);
+        if (candidates == null) {
+            return null;
+        }
+        for (PreviousComponent candidate : candidates) {
+            if (candidate.dependencyPurls.size() != dependencyPurls.size()
+                    || !candidate.dependencyPurls.containsAll(dependencyPurls)) {
+                continue;
+            }
+            final Component prev = candidate.component;
+            if (includeHashes && (prev.getHashes() == null || prev.getHashes().isEmpty())) {
+                continue;
+            }
+            final Component c = new Component();
+            c.setType(prev.getType());
+            c.setGroup(prev.getGroup());
+            c.setName(prev.getName());
+            c.setVersion(prev.getVersion());
+            c.setPurl(prev.getPurl());
+            c.setBomRef(bomRef);
+            c.setPublisher(prev.getPublisher());
+            c.setDescription(prev.getDescription());
+            if (includeLicenses) {
+                c.setLicenses(ManifestGenerator.copyLicenses(prev.getLicenses()));
+            }
+            if (includeHashes) {
+                c.setHashes(new ArrayList<>(prev.getHashes()));
+            }
+            c.setExternalReferences(
+                    prev.getExternalReferences() == null ? null : new ArrayList<>(prev.getExternalReferences()));
+            c.setProperties(prev.getProperties() == null ? null : new ArrayList<>(prev.getProperties()));
+            return c;
+        }
+        return null;
+    }
+}
@@ -12,14 +12,13 @@ import io.quarkus.maven.dependency.ArtifactCoords;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -29,6 +28,9 @@ public class PurgingDependencyTreeVisitor implements DependencyTreeVisitor {
 
     private static final Logger log = Logger.getLogger(PurgingDependencyTreeVisitor.class);
 
+    private static final Comparator<VisitedComponentImpl> VISIT_ORDER = Comparator.comparingLong(
+            VisitedComponentImpl::getIndex);
+
     private final AtomicLong nodesTotal = new AtomicLong();
     private final AtomicLong uniqueNodesTotal = new AtomicLong();
     private List<VisitedComponentImpl> roots;
@@ -54,27 +56,37 @@ public class PurgingDependencyTreeVisitor implements DependencyTreeVisitor {
         return new ArrayList<>(roots);
     }
 
+    /**
+     * Purges the recorded trees in two phases. First, structural hashes are calculated for all the nodes
+     * of all the trees in a single parallel pass. Then bom-refs are assigned by walking the trees sequentially
+     * in the order the nodes were visited, which makes the assigned bom-refs deterministic.
+     * Thanks to the structural hashes, looking up an already processed variation of a component with
+     * matching dependencies in the second phase is a hash lookup.
+     */
     private void purge() {
         //log.infof("Roots total: %s", roots.size());
         //log.infof("Nodes total: %s", nodesTotal);
 
+        var treeProcessor = newStructureHashProcessor();
         for (VisitedComponentImpl root : roots) {
-            // we want to process each tree separately due to possible variations across different trees
-            var treeProcessor = newTreeProcessor();
             treeProcessor.addRoot(root);
-            var results = treeProcessor.schedule().join();
-            boolean failures = false;
-            for (var result : results) {
-                if (result.isFailure()) {
-                    failures = true;
-                    log.error("Failed to process " + result.getNode().getArtifactCoords(), result.getException());
-                }
-            }
-            if (failures) {
-                throw new RuntimeException(
-                        "Failed to record dependency graph, see the errors logged above for more detailed information");
+        }
+        var results = treeProcessor.schedule().join();
+        boolean failures = false;
+        for (var result : results) {
+            if (result.isFailure()) {
+                failures = true;
+                log.error("Failed to process " + result.getNode().getArtifactCoords(), result.getException());
             }
         }
+        if (failures) {
+            throw new RuntimeException(
+                    "Failed to record dependency graph, see the errors logged above for more detailed information");
+        }
+
+        for (VisitedComponentImpl root : roots) {
+            assignBomRefs(root);
+        }
         nodeVariations = null;
         branch = null;
 
@@ -93,7 +105,7 @@ public class PurgingDependencyTreeVisitor implements DependencyTreeVisitor {
         //log.infof("Unique nodes total: %s", uniqueNodesTotal);
     }
 
-    private ParallelTreeProcessor<Long, VisitedComponentImpl, VisitedComponentImpl> newTreeProcessor() {
+    private ParallelTreeProcessor<Long, VisitedComponentImpl, VisitedComponentImpl> newStructureHashProcessor() {
         return ParallelTreeProcessor.with(new NodeProcessor<>() {
             @Override
             public Long getNodeId(VisitedComponentImpl node) {
@@ -109,12 +121,28 @@ public class PurgingDependencyTreeVisitor implements DependencyTreeVisitor {
             public Function<ExecutionContext<Long, VisitedComponentImpl, VisitedComponentImpl>, TaskResult<Long, VisitedComponentImpl, VisitedComponentImpl>> createFunction() {
                 return ctx -> {
                     final VisitedComponentImpl currentNode = ctx.getNode();
-                    return ctx.success(nodeVariations.get(currentNode.getArtifactCoords()).setBomRef(currentNode));
+                    currentNode.initStructureHash();
+                    return ctx.success(currentNode);
                 };
             }
         });
     }
 
+    private VisitedComponentImpl assignBomRefs(VisitedComponentImpl node) {
+        if (node.bomRef != null) {
+            // a linked dependency that has already been processed
+            return node;
+        }
+        if (!node.children.isEmpty()) {
+            final List<VisitedComponentImpl> children = new ArrayList<>(node.children.values());
+            children.sort(VISIT_ORDER);
+            for (var child : children) {
+                assignBomRefs(child);
+            }
+        }
+        return nodeVariations.get(node.getArtifactCoords()).setBomRef(node);
+    }
+
     @Override
     public void enterRootArtifact(DependencyVisit visit) {
         treeComponents = new HashMap<>();
@@ -167,7 +195,7 @@ public class PurgingDependencyTreeVisitor implements DependencyTreeVisitor {
     private VisitedComponentImpl enterNode(DependencyVisit visit) {
         var parent = branch.peek();
         var current = new VisitedComponentImpl(nodesTotal.getAndIncrement(), parent, visit);
-        nodeVariations.computeIfAbsent(visit.getCoords(), this::getComponentVariations).add(current);
+        nodeVariations.computeIfAbsent(visit.getCoords(), this::getComponentVariations);
         if (parent != null) {
             parent.addChild(current);
         }
@@ -198,6 +226,7 @@ public class PurgingDependencyTreeVisitor implements DependencyTreeVisitor {
         private String bomRef;
         private PackageURL purl;
         private boolean purged;
+        private long structureHash;
 
         private VisitedComponentImpl(long index, VisitedComponentImpl parent, DependencyVisit visit) {
             this.index = index;
@@ -287,6 +316,19 @@ public class PurgingDependencyTreeVisitor implements DependencyTreeVisitor {
             purged = true;
         }
 
+        /**
+         * Calculates a hash of the dependency tree of this node, which does not depend on the order of
+         * the dependencies. Nodes with identical dependency trees will have the same hash.
+         * The structure hashes of the children must be initialized before calling this method.
+         */
+        private void initStructureHash() {
+            long hash = mix(coords.hashCode());
+            for (var child : children.values()) {
+                hash += mix(child.structureHash * 31 + child.coords.hashCode());
+            }
+            structureHash = hash;
+        }
+
         private boolean hasMatchingDirectDeps(VisitedComponentImpl other) {
             if (!coords.equals(other.coords)) {
                 throw new IllegalArgumentException(
@@ -386,49 +428,49 @@ public class PurgingDependencyTreeVisitor implements DependencyTreeVisitor {
         }
     }
 
+    /**
+     * Processed variations of a component indexed by the structure hashes of their dependency trees,
+     * so that looking up a variation with matching direct dependencies does not require comparing
+     * a node with every known variation.
+     * Bom-refs are assigned sequentially, in the order the nodes were visited.
+     */
     private class ComponentVariations {
-        private final List<VisitedComponentImpl> variations = new ArrayList<>();
-        private final ReadWriteLock lock = new ReentrantReadWriteLock();
-
-        private void add(VisitedComponentImpl variation) {
-            variations.add(variation);
-        }
+        private final Map<Long, List<VisitedComponentImpl>> variationsByStructure = new HashMap<>();
+        private int processedVariations;
 
         private VisitedComponentImpl setBomRef(VisitedComponentImpl currentNode) {
             if (currentNode.bomRef != null) {
                 return currentNode;
             }
-            lock.readLock().lock();
-            try {
-                int processedVariations = 0;
-                if (variations.size() > 1) {
-                    for (var variation : variations) {
-                        if (variation.purged || variation.bomRef == null) {
-                            continue;
-                        }
-                        processedVariations++;
-                        if (variation.hasMatchingDirectDeps(currentNode)) {
-                            if (currentNode.isRoot()) {
-                                currentNode.setBomRef(variation.getBomRef());
-                            } else {
-                                currentNode.swap(variation);
-                                currentNode = variation;
-                            }
-                            break;
+            final List<VisitedComponentImpl> candidates = variationsByStructure.get(currentNode.structureHash);
+            if (candidates != null) {
+                for (var variation : candidates) {
+                    if (variation.hasMatchingDirectDeps(currentNode)) {
+                        if (currentNode.isRoot()) {
+                            currentNode.setBomRef(variation.getBomRef());
+                            // a root node is never purged and so is counted as a processed variation
+                            processedVariations++;
+                            return currentNode;
                         }
+                        currentNode.swap(variation);
+                        return variation;
                     }
                 }
-                if (currentNode.bomRef == null) {
-                    uniqueNodesTotal.incrementAndGet();
-                    currentNode.initializeBomRef(processedVariations);
-                }
-            } finally {
-                lock.readLock().unlock();
             }
+            uniqueNodesTotal.incrementAndGet();
+            currentNode.initializeBomRef(processedVariations++);
+            variationsByStructure.computeIfAbsent(currentNode.structureHash, k -> new ArrayList<>(1)).add(currentNode);
             return currentNode;
         }
     }
 
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
     private static boolean isSameGav(ArtifactCoords c1, ArtifactCoords c2) {
         return c1.getArtifactId().equals(c2.getArtifactId())
                 && c1.getVersion().equals(c2.getVersion())
@@ -13,17 +13,24 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
-import org.apache.maven.model.Model;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.GeneratorException;
 import org.cyclonedx.generators.BomGeneratorFactory;
@@ -36,8 +43,6 @@ import org.cyclonedx.model.Metadata;
 import org.cyclonedx.model.Property;
 import org.cyclonedx.model.ReleaseNotes;
 import org.cyclonedx.model.Tool;
-import org.cyclonedx.util.BomUtils;
-import org.eclipse.jgit.util.Hex;
 import org.jboss.logging.Logger;
 
 public class SbomGenerator {
@@ -105,6 +110,75 @@ public class SbomGenerator {
             return this;
         }
 
+        /**
+         * File to persist calculated artifact hashes to, so that they could be re-used by later runs.
+         * If not set, the hashes will be persisted to {@code ~/.domino/artifact-hashes.txt}.
+         *
+         * @param hashCacheFile persistent hash cache file
+         * @return this builder instance
+         */
+        public Builder setHashCacheFile(Path hashCacheFile) {
+            ensureNotBuilt();
+            SbomGenerator.this.hashCacheFile = hashCacheFile;
+            return this;
+        }
+
+        /**
+         * Directory to persist effective POM models of released artifacts to, so that they could be re-used
+         * by later runs. If not set, effective models will not be persisted.
+         *
+         * @param effectiveModelCacheDir persistent effective model cache directory
+         * @return this builder instance
+         */
+        public Builder setEffectiveModelCacheDir(Path effectiveModelCacheDir) {
+            ensureNotBuilt();
+            SbomGenerator.this.effectiveModelCacheDir = effectiveModelCacheDir;
+            return this;
+        }
+
+        /**
+         * Directory to persist component metadata extracted from effective POM models of released artifacts to,
+         * so that later runs could skip resolving effective models for already seen artifacts.
+         * If not set, the metadata will be cached only in memory.
+         *
+         * @param metadataCacheDir persistent component metadata cache directory
+         * @return this builder instance
+         */
+        public Builder setMetadataCacheDir(Path metadataCacheDir) {
+            ensureNotBuilt();
+            SbomGenerator.this.metadataCacheDir = metadataCacheDir;
+            return this;
+        }
+
+        /**
+         * A previously generated SBOM whose components should be re-used, instead of being generated from scratch,
+         * if their purls and direct dependencies have not changed.
+         *
+         * @param previousSbom previously generated SBOM
+         * @return this builder instance
+         */
+        public Builder setPreviousSbom(Path previousSbom) {
+            ensureNotBuilt();
+            SbomGenerator.this.previousSbomFile = previousSbom;
+            return this;
+        }
+
+        /**
+         * The maximum number of components processed concurrently.
+         * The default is the number of available processors.
+         *
+         * @param parallelism maximum number of components processed concurrently
+         * @return this builder instance
+         */
+        public Builder setParallelism(int parallelism) {
+            ensureNotBuilt();
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be a positive number: " + parallelism);
+            }
+            SbomGenerator.this.parallelism = parallelism;
+            return this;
+        }
+
         public Builder setTopComponents(List<VisitedComponent> topComponents) {
             ensureNotBuilt();
             SbomGenerator.this.topComponents = topComponents;
@@ -116,6 +190,19 @@ public class SbomGenerator {
             return this;
         }
 
+        /**
+         * Whether the SBOM should be written to the output incrementally instead of being serialized
+         * to a string first, which reduces the memory footprint of large SBOMs.
+         *
+         * @param streamOutput whether to write the SBOM incrementally
+         * @return this builder instance
+         */
+        public Builder setStreamOutput(boolean streamOutput) {
+            ensureNotBuilt();
+            SbomGenerator.this.streamOutput = streamOutput;
+            return this;
+        }
+
         public SbomGenerator build() {
             ensureNotBuilt();
 
@@ -129,8 +216,19 @@ public class SbomGenerator {
                     throw new IllegalStateException("Failed to initialize Maven artifact resolver", e);
                 }
             }
-            effectiveModelResolver = new EffectiveModelResolver(resolver);
+            effectiveModelResolver = new EffectiveModelResolver(resolver,
+                    EffectiveModelResolver.DEFAULT_MAX_CACHED_MODELS, effectiveModelCacheDir);
             SbomGenerator.this.schemaVersion = getSchemaVersion();
+            metadataCache = new ComponentMetadataCache(metadataCacheDir, SbomGenerator.this.schemaVersion,
+                    resolveLicenses);
+            if (previousSbomFile != null) {
+                previousSbom = PreviousSbom.read(previousSbomFile);
+            }
+            if (calculateHashes) {
+                hashCalculator = new ArtifactHashCalculator(
+                        ArtifactHashCalculator.getAlgorithms(SbomGenerator.this.schemaVersion),
+                        hashCacheFile == null ? ArtifactHashCalculator.getDefaultCacheFile() : hashCacheFile);
+            }
             return SbomGenerator.this;
         }
 
@@ -174,11 +272,21 @@ public class SbomGenerator {
     private boolean recordDependencies = true;
     private boolean calculateHashes = true;
     private boolean resolveLicenses = true;
+    private Path hashCacheFile;
+    private Path effectiveModelCacheDir;
+    private Path metadataCacheDir;
+    private ComponentMetadataCache metadataCache;
+    private Path previousSbomFile;
+    private PreviousSbom previousSbom;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private ArtifactHashCalculator hashCalculator;
     private Version schemaVersion;
+    private boolean streamOutput;
 
     private Bom bom;
     private Component mainComponent;
     private Set<String> addedBomRefs;
+    private Map<String, Component> processedComponents;
 
     private SbomGenerator() {
     }
@@ -192,14 +300,33 @@ public class SbomGenerator {
         bom.setMetadata(metadata);
         addToolInfo(metadata);
 
+        processedComponents = processComponents(collectComponents());
+        if (calculateHashes) {
+            hashCalculator.persist();
+        }
         for (VisitedComponent c : sortAlphabetically(topComponents)) {
             addComponent(c);
         }
+        processedComponents = null;
 
         bom = transform(bom);
 
         addProductInfo(bom);
 
+        if (streamOutput) {
+            if (outputFile == null) {
+                try {
+                    SbomJsonStreamWriter.write(bom, schemaVersion, System.out);
+                    System.out.println();
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to write the SBOM", e);
+                }
+            } else {
+                SbomJsonStreamWriter.write(bom, schemaVersion, outputFile);
+            }
+            return bom;
+        }
+
         final String bomString;
         try {
             bomString = BomGeneratorFactory.createJson(schemaVersion, bom).toJsonString();
@@ -226,23 +353,93 @@ public class SbomGenerator {
     }
 
     private void addComponent(VisitedComponent visited) {
-        if (visited.getBomRef() == null) {
-            throw new IllegalArgumentException("bom-ref has not been initialized for " + visited.getPurl());
-        }
         if (!addedBomRefs.add(visited.getBomRef())) {
             return;
         }
-        final Component comp = processComponent(visited);
+        final Component comp = processedComponents.get(visited.getBomRef());
+        List<VisitedComponent> dependencies = visited.getDependencies();
+        if (!dependencies.isEmpty()) {
+            final Dependency d = recordDependencies ? new Dependency(comp.getBomRef()) : null;
+            for (VisitedComponent child : sortAlphabetically(dependencies)) {
+                if (d != null) {
+                    d.addDependency(new Dependency(child.getBomRef()));
+                }
+                addComponent(child);
+            }
+            if (d != null) {
+                bom.addDependency(d);
+            }
+        }
         if (!setMainMetadataComponent(comp)) {
             bom.addComponent(comp);
         }
     }
 
+    /**
+     * Collects all the unique components reachable from the top components.
+     *
+     * @return all the unique components
+     */
+    private Collection<VisitedComponent> collectComponents() {
+        final Map<String, VisitedComponent> components = new HashMap<>();
+        final Deque<VisitedComponent> queue = new ArrayDeque<>(topComponents);
+        while (!queue.isEmpty()) {
+            var c = queue.poll();
+            if (c.getBomRef() == null) {
+                throw new IllegalArgumentException("bom-ref has not been initialized for " + c.getPurl());
+            }
+            if (components.putIfAbsent(c.getBomRef(), c) == null) {
+                queue.addAll(c.getDependencies());
+            }
+        }
+        return components.values();
+    }
+
+    /**
+     * Creates SBOM components for the visited ones concurrently.
+     * Processing of a component (resolving its effective model, extracting its metadata and calculating its hashes)
+     * does not depend on other components.
+     *
+     * @param visited visited components
+     * @return SBOM components keyed by their bom-refs
+     */
+    private Map<String, Component> processComponents(Collection<VisitedComponent> visited) {
+        final Map<String, Component> result = new ConcurrentHashMap<>(visited.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, visited.size())));
+        try {
+            final List<CompletableFuture<?>> tasks = new ArrayList<>(visited.size());
+            for (VisitedComponent v : visited) {
+                tasks.add(CompletableFuture.runAsync(() -> result.put(v.getBomRef(), processComponent(v)), executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
     private Component processComponent(VisitedComponent visited) {
-        final Model model = effectiveModelResolver.resolveEffectiveModel(visited.getArtifactCoords(),
-                visited.getRepositories());
+        if (previousSbom != null) {
+            final List<VisitedComponent> deps = visited.getDependencies();
+            final List<String> depPurls = new ArrayList<>(deps.size());
+            for (VisitedComponent d : deps) {
+                depPurls.add(d.getPurl().toString());
+            }
+            final Component c = previousSbom.copyComponent(visited.getPurl().toString(), depPurls, visited.getBomRef(),
+                    calculateHashes, resolveLicenses);
+            if (c != null) {
+                return c;
+            }
+        }
         final Component c = new Component();
-        ManifestGenerator.extractMetadata(visited.getRevision(), model, c, schemaVersion, resolveLicenses);
+        metadataCache.extractMetadata(visited.getArtifactCoords(), visited.getRevision(), c,
+                () -> effectiveModelResolver.resolveEffectiveModel(visited.getArtifactCoords(),
+                        visited.getRepositories()));
         if (c.getPublisher() == null) {
             c.setPublisher("central");
         }
@@ -264,11 +461,7 @@ public class SbomGenerator {
                         + visited.getArtifactCoords().toCompactCoords()
                         + " since the artifact is resolved to a directory");
             }
-            try {
-                c.setHashes(BomUtils.calculateHashes(path.toFile(), schemaVersion));
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to calculate hashes for the tool at " + path, e);
-            }
+            c.setHashes(hashCalculator.calculate(path));
         }
 
         final List<Property> props = new ArrayList<>(2);
@@ -283,20 +476,6 @@ public class SbomGenerator {
         if (RhVersionPattern.isRhVersion(c.getVersion())) {
             PncSbomTransformer.addMrrc(c);
         }
-
-        List<VisitedComponent> dependencies = visited.getDependencies();
-        if (!dependencies.isEmpty()) {
-            final Dependency d = recordDependencies ? new Dependency(c.getBomRef()) : null;
-            for (VisitedComponent child : sortAlphabetically(dependencies)) {
-                if (d != null) {
-                    d.addDependency(new Dependency(child.getBomRef()));
-                }
-                addComponent(child);
-            }
-            if (d != null) {
-                bom.addDependency(d);
-            }
-        }
         return c;
     }
 
@@ -471,19 +650,19 @@ public class SbomGenerator {
         tool.setName(sb.append("SBOM Generator").toString());
 
         if (!Files.isDirectory(toolLocation)) {
-            final byte[] bytes;
+            final Map<String, String> digests;
             try {
-                bytes = Files.readAllBytes(toolLocation);
-            } catch (IOException e) {
+                digests = ArtifactHashCalculator.digest(toolLocation, HASH_ALGS);
+            } catch (RuntimeException e) {
                 log.warn("Failed to read the tool's binary", e);
                 return;
             }
 
             final List<Hash> hashes = new ArrayList<>(HASH_ALGS.size());
             for (String alg : HASH_ALGS) {
-                var hash = getHash(alg, bytes);
-                if (hash != null) {
-                    hashes.add(hash);
+                var value = digests.get(alg);
+                if (value != null) {
+                    hashes.add(new Hash(alg, value));
                 }
             }
             if (!hashes.isEmpty()) {
@@ -494,17 +673,6 @@ public class SbomGenerator {
         }
     }
 
-    private static Hash getHash(String alg, byte[] content) {
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(alg);
-        } catch (NoSuchAlgorithmException e) {
-            log.warn("Failed to initialize a message digest with algorithm " + alg + ": " + e.getLocalizedMessage());
-            return null;
-        }
-        return new Hash(md.getAlgorithm(), Hex.toHexString(md.digest(content)));
-    }
-
     private Path getToolLocation() {
         var cs = getClass().getProtectionDomain().getCodeSource();
         if (cs == null) {
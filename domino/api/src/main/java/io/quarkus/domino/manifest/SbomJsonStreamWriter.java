@@ -0,0 +1,61 @@
+package io.quarkus.domino.manifest;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.BomReference;
+import org.cyclonedx.util.mixin.MixInBomReference;
+
+/**
+ * Writes an SBOM in the CycloneDX JSON format directly to the output, instead of serializing the whole
+ * SBOM to a single string first.
+ * <p>
+ * The SBOM is written with the object mapper of the CycloneDX JSON generator, configured with the serializers
+ * of the requested schema version, so the output is the same as the one of {@link BomJsonGenerator#toJsonString()}.
+ */
+class SbomJsonStreamWriter extends BomJsonGenerator {
+
+    static void write(Bom bom, Version schemaVersion, Path outputFile) {
+        if (outputFile.getParent() != null) {
+            try {
+                Files.createDirectories(outputFile.getParent());
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to create " + outputFile.getParent(), e);
+            }
+        }
+        try (OutputStream out = Files.newOutputStream(outputFile)) {
+            write(bom, schemaVersion, out);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write to " + outputFile, e);
+        }
+    }
+
+    static void write(Bom bom, Version schemaVersion, OutputStream out) throws IOException {
+        new SbomJsonStreamWriter(bom, schemaVersion).write(out);
+    }
+
+    private SbomJsonStreamWriter(Bom bom, Version schemaVersion) {
+        super(bom, schemaVersion);
+    }
+
+    private void write(OutputStream out) throws IOException {
+        // the same configuration BomJsonGenerator applies when serializing to a string
+        mapper.addMixIn(BomReference.class, MixInBomReference.class);
+        final DefaultPrettyPrinter prettyPrinter = new DefaultPrettyPrinter();
+        prettyPrinter.indentArraysWith(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE);
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // the output stream is closed by the caller
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setPrettyPrinter(prettyPrinter);
+            mapper.writer(prettyPrinter).writeValue(gen, bom);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.quarkus.domino;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.quarkus.domino.manifest.PncArtifactBuildInfo;
+import io.quarkus.maven.dependency.GAV;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PncBuildInfoProviderTest {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("\"([^\"]+)\"");
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile boolean supportMultipleIdentifiers = true;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/pnc-rest/v2/artifacts", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void batchedLookups() {
+        final PncBuildInfoProvider provider = newProvider();
+        final List<GAV> gavs = List.of(
+                new GAV("org.acme", "acme-a", "1.0.0.redhat-00001"),
+                new GAV("org.acme", "acme-b", "1.0.0.redhat-00001"),
+                new GAV("org.acme", "acme-c", "1.0.0.redhat-00001"),
+                new GAV("org.acme", "missing", "1.0.0.redhat-00001"),
+                new GAV("org.acme", "acme-d", "1.0.0.redhat-00001"),
+                new GAV("org.acme", "community", "1.0.0"));
+        provider.prefetchBuildInfo(gavs);
+        // 5 productized artifacts in batches of 2
+        assertThat(requests.get()).isEqualTo(3);
+
+        assertBuildInfo(provider, gavs);
+        assertThat(requests.get()).isEqualTo(3);
+
+        // the persistent cache is used by new instances
+        assertBuildInfo(newProvider(), gavs);
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void fallbackToSingleLookups() {
+        supportMultipleIdentifiers = false;
+        final PncBuildInfoProvider provider = newProvider();
+        final List<GAV> gavs = List.of(
+                new GAV("org.acme", "acme-a", "1.0.0.redhat-00001"),
+                new GAV("org.acme", "acme-b", "1.0.0.redhat-00001"),
+                new GAV("org.acme", "missing", "1.0.0.redhat-00001"));
+        provider.prefetchBuildInfo(gavs);
+        // a failed batch request for the first two artifacts followed by 3 single lookups
+        assertThat(requests.get()).isEqualTo(4);
+
+        assertBuildInfo(provider, gavs);
+        assertThat(requests.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void legacyCacheMigration() throws IOException {
+        final PncArtifactBuildInfo.Content content = new PncArtifactBuildInfo.Content();
+        content.setIdentifier("org.acme:acme-a:pom:1.0.0.redhat-00001");
+        content.setMd5("md5-acme-a");
+        final PncArtifactBuildInfo legacy = new PncArtifactBuildInfo();
+        legacy.setContent(List.of(content));
+        final Path legacyJson = cacheDir.resolve("org.acme").resolve("acme-a").resolve("1.0.0.redhat-00001")
+                .resolve("pnc-build-info.json");
+        PncArtifactBuildInfo.serialize(legacy, legacyJson);
+
+        assertBuildInfo(newProvider(), List.of(new GAV("org.acme", "acme-a", "1.0.0.redhat-00001")));
+        assertThat(requests.get()).isEqualTo(0);
+        assertThat(cacheDir.resolve("org.acme")).doesNotExist();
+
+        // the migrated build info is read from the new cache
+        assertBuildInfo(newProvider(), List.of(new GAV("org.acme", "acme-a", "1.0.0.redhat-00001")));
+        assertThat(requests.get()).isEqualTo(0);
+    }
+
+    private PncBuildInfoProvider newProvider() {
+        return new PncBuildInfoProvider("http://localhost:" + server.getAddress().getPort(), cacheDir, 2, 2);
+    }
+
+    private static void assertBuildInfo(PncBuildInfoProvider provider, List<GAV> gavs) {
+        for (GAV gav : gavs) {
+            final PncArtifactBuildInfo info = provider.getBuildInfo(gav.getGroupId(), gav.getArtifactId(),
+                    gav.getVersion());
+            if (!RhVersionPattern.isRhVersion(gav.getVersion())) {
+                assertThat(info).isNull();
+            } else if (gav.getArtifactId().equals("missing")) {
+                assertThat(info).isNotNull();
+                assertThat(info.getContent()).isNullOrEmpty();
+            } else {
+                assertThat(info).isNotNull();
+                assertThat(info.getContent()).hasSize(1);
+                assertThat(info.getContent().get(0).getMd5()).isEqualTo("md5-" + gav.getArtifactId());
+            }
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        final String query = exchange.getRequestURI().getQuery();
+        if (!supportMultipleIdentifiers && query.contains("=in=")) {
+            exchange.sendResponseHeaders(400, -1);
+            exchange.close();
+            return;
+        }
+        final List<String> content = new ArrayList<>();
+        final Matcher m = IDENTIFIER.matcher(query);
+        while (m.find()) {
+            final String identifier = m.group(1);
+            final String artifactId = identifier.split(":")[1];
+            if (!artifactId.equals("missing")) {
+                content.add("{\"identifier\":\"" + identifier + "\",\"md5\":\"md5-" + artifactId
+                        + "\",\"build\":{\"id\":\"" + artifactId + "-build\"}}");
+            }
+        }
+        final byte[] body = ("{\"pageIndex\":0,\"totalPages\":1,\"content\":[" + String.join(",", content) + "]}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkus.domino.manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import org.cyclonedx.Version;
+import org.cyclonedx.model.Hash;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ArtifactHashCalculatorTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void hashesMatchMessageDigests() throws Exception {
+        final Path file = workDir.resolve("artifact.jar");
+        final byte[] content = "artifact content".repeat(1000).getBytes();
+        Files.write(file, content);
+
+        final List<String> algs = ArtifactHashCalculator.getAlgorithms(Collections.max(List.of(Version.values())));
+        final List<Hash> hashes = new ArtifactHashCalculator(algs, null).calculate(file);
+        assertThat(hashes).hasSize(algs.size());
+        for (int i = 0; i < algs.size(); ++i) {
+            var hash = hashes.get(i);
+            assertThat(hash.getAlgorithm()).isEqualTo(algs.get(i));
+            assertThat(hash.getValue())
+                    .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance(algs.get(i)).digest(content)));
+        }
+    }
+
+    @Test
+    public void persistedHashesAreReused() throws Exception {
+        final Path file = workDir.resolve("artifact.jar");
+        Files.writeString(file, "artifact content");
+        final Path cacheFile = workDir.resolve("hashes.txt");
+
+        final List<String> algs = List.of("SHA-1");
+        var calculator = new ArtifactHashCalculator(algs, cacheFile);
+        calculator.calculate(file);
+        calculator.persist();
+        assertThat(cacheFile).exists();
+
+        // replace the cached value to make sure it is not re-calculated
+        Files.writeString(cacheFile, Files.readString(cacheFile).replaceAll("SHA-1=[0-9a-f]+", "SHA-1=cached"));
+        assertThat(new ArtifactHashCalculator(algs, cacheFile).calculate(file).get(0).getValue()).isEqualTo("cached");
+    }
+
+    @Test
+    public void supersededEntriesAreCompacted() throws Exception {
+        final Path file = workDir.resolve("artifact.jar");
+        Files.writeString(file, "artifact content");
+        final Path cacheFile = workDir.resolve("hashes.txt");
+
+        final List<String> algs = List.of("SHA-1");
+        var calculator = new ArtifactHashCalculator(algs, cacheFile);
+        calculator.calculate(file);
+        calculator.persist();
+
+        // modifying the file appends an entry superseding the previous one
+        Files.writeString(file, "modified artifact content");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        calculator = new ArtifactHashCalculator(algs, cacheFile);
+        final String expected = calculator.calculate(file).get(0).getValue();
+        calculator.persist();
+        assertThat(Files.readAllLines(cacheFile)).hasSize(2);
+
+        // loading the cache with superseded entries rewrites it on persist
+        calculator = new ArtifactHashCalculator(algs, cacheFile);
+        assertThat(calculator.calculate(file).get(0).getValue()).isEqualTo(expected);
+        calculator.persist();
+        assertThat(Files.readAllLines(cacheFile)).hasSize(1);
+        assertThat(new ArtifactHashCalculator(algs, cacheFile).calculate(file).get(0).getValue()).isEqualTo(expected);
+    }
+}
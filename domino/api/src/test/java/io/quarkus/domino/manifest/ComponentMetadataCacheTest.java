@@ -0,0 +1,108 @@
+package io.quarkus.domino.manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.quarkus.domino.scm.ScmRepository;
+import io.quarkus.domino.scm.ScmRevision;
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.maven.model.License;
+import org.apache.maven.model.Model;
+import org.cyclonedx.Version;
+import org.cyclonedx.model.Component;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ComponentMetadataCacheTest {
+
+    private static final Version SCHEMA_VERSION = Collections.max(List.of(Version.values()));
+    private static final ScmRevision RELEASE = ScmRevision.tag(ScmRepository.ofUrl("https://acme.org/acme.git"), "1.0");
+
+    @TempDir
+    Path workDir;
+
+    private final AtomicInteger resolvedModels = new AtomicInteger();
+
+    @Test
+    public void metadataIsNotPersistedByDefault() throws Exception {
+        final ComponentMetadataCache cache = new ComponentMetadataCache(null, SCHEMA_VERSION, true);
+        final ArtifactCoords coords = ArtifactCoords.jar("org.acme", "acme", "1.0");
+        cache.extractMetadata(coords, RELEASE, new Component(), modelSupplier());
+        cache.extractMetadata(coords, RELEASE, new Component(), modelSupplier());
+        assertThat(resolvedModels).hasValue(1);
+        try (Stream<Path> files = Files.list(workDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    public void persistedMetadataIsReused() {
+        final Path cacheDir = workDir.resolve("component-metadata");
+        final ArtifactCoords coords = ArtifactCoords.jar("org.acme", "acme", "1.0");
+        new ComponentMetadataCache(cacheDir, SCHEMA_VERSION, true).extractMetadata(coords, RELEASE, new Component(),
+                modelSupplier());
+        assertThat(resolvedModels).hasValue(1);
+        assertThat(cacheDir.resolve("org.acme").resolve("acme").resolve("1.0")
+                .resolve("cdx-" + SCHEMA_VERSION.getVersionString() + ".json")).exists();
+
+        final Component c = new Component();
+        new ComponentMetadataCache(cacheDir, SCHEMA_VERSION, true).extractMetadata(coords, RELEASE, c, modelSupplier());
+        assertThat(resolvedModels).hasValue(1);
+        assertThat(c.getDescription()).isEqualTo("Acme library");
+        assertThat(c.getLicenses().getLicenses()).hasSize(1);
+    }
+
+    @Test
+    public void snapshotMetadataIsNotPersisted() throws Exception {
+        final Path cacheDir = workDir.resolve("component-metadata");
+        final ArtifactCoords coords = ArtifactCoords.jar("org.acme", "acme", "1.0-SNAPSHOT");
+        new ComponentMetadataCache(cacheDir, SCHEMA_VERSION, true).extractMetadata(coords, RELEASE, new Component(),
+                modelSupplier());
+        new ComponentMetadataCache(cacheDir, SCHEMA_VERSION, true).extractMetadata(coords, RELEASE, new Component(),
+                modelSupplier());
+        assertThat(resolvedModels).hasValue(2);
+        assertThat(cacheDir).doesNotExist();
+    }
+
+    @Test
+    public void licensesAreNotShared() {
+        final ComponentMetadataCache cache = new ComponentMetadataCache(null, SCHEMA_VERSION, true);
+        final ArtifactCoords coords = ArtifactCoords.jar("org.acme", "acme", "1.0");
+        final Component first = new Component();
+        cache.extractMetadata(coords, RELEASE, first, modelSupplier());
+        final String licenseName = first.getLicenses().getLicenses().get(0).getName();
+        first.getLicenses().getLicenses().get(0).setName("Modified");
+
+        final Component second = new Component();
+        cache.extractMetadata(coords, RELEASE, second, modelSupplier());
+        assertThat(second.getLicenses()).isNotSameAs(first.getLicenses());
+        assertThat(second.getLicenses().getLicenses().get(0).getName()).isEqualTo(licenseName);
+    }
+
+    @Test
+    public void licensesAreNotSetIfDisabled() {
+        final Component c = new Component();
+        new ComponentMetadataCache(null, SCHEMA_VERSION, false).extractMetadata(
+                ArtifactCoords.jar("org.acme", "acme", "1.0"), RELEASE, c, modelSupplier());
+        assertThat(c.getDescription()).isEqualTo("Acme library");
+        assertThat(c.getLicenses()).isNull();
+    }
+
+    private Supplier<Model> modelSupplier() {
+        return () -> {
+            resolvedModels.incrementAndGet();
+            final Model model = new Model();
+            model.setDescription("Acme library");
+            final License license = new License();
+            license.setName("Acme Proprietary License");
+            model.addLicense(license);
+            return model;
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkus.domino.manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.quarkus.domino.PncBuildInfoProvider;
+import io.quarkus.maven.dependency.GAV;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PncSbomTransformerTest {
+
+    private static final String VERSION = "1.0.0.redhat-00001";
+    private static final String ACME_PURL = "pkg:maven/org.acme/acme@" + VERSION + "?type=jar";
+
+    @TempDir
+    Path workDir;
+
+    private final List<String> requestedBuildInfo = new ArrayList<>();
+
+    @Test
+    public void buildInfoIsAdded() {
+        final Component c = transform(newComponent());
+        assertPncBuildInfo(c);
+        assertThat(requestedBuildInfo).containsExactly("org.acme:acme:" + VERSION);
+    }
+
+    @Test
+    public void componentCopiedWithHashesIsNotUpdated() throws Exception {
+        final Component c = transform(copyPreviousComponent(true));
+        assertPncBuildInfo(c);
+        assertThat(requestedBuildInfo).isEmpty();
+    }
+
+    @Test
+    public void componentCopiedWithoutHashesIsUpdated() throws Exception {
+        final Component copy = copyPreviousComponent(false);
+        assertThat(copy.getHashes()).isNull();
+
+        final Component c = transform(copy);
+        assertPncBuildInfo(c);
+        assertThat(requestedBuildInfo).containsExactly("org.acme:acme:" + VERSION);
+    }
+
+    private Component copyPreviousComponent(boolean includeHashes) throws Exception {
+        final Bom bom = new Bom();
+        bom.addComponent(transform(newComponent()));
+        requestedBuildInfo.clear();
+        final Path sbomFile = workDir.resolve("previous-sbom.json");
+        Files.writeString(sbomFile,
+                BomGeneratorFactory.createJson(Collections.max(List.of(Version.values())), bom).toJsonString());
+        final Component copy = PreviousSbom.read(sbomFile).copyComponent(ACME_PURL, List.of(), ACME_PURL, includeHashes,
+                true);
+        assertThat(copy).isNotNull();
+        return copy;
+    }
+
+    private Component transform(Component c) {
+        final Bom bom = new Bom();
+        bom.addComponent(c);
+        new PncSbomTransformer(new PncBuildInfoProvider() {
+            @Override
+            public PncArtifactBuildInfo getBuildInfo(String groupId, String artifactId, String version) {
+                requestedBuildInfo.add(groupId + ":" + artifactId + ":" + version);
+                final PncArtifactBuildInfo.Build build = new PncArtifactBuildInfo.Build();
+                build.setId("ABCD");
+                final PncArtifactBuildInfo.Content content = new PncArtifactBuildInfo.Content();
+                content.setMd5("md5");
+                content.setSha1("sha1");
+                content.setSha256("sha256");
+                content.setBuild(build);
+                final PncArtifactBuildInfo info = new PncArtifactBuildInfo();
+                info.setContent(List.of(content));
+                return info;
+            }
+
+            @Override
+            public void prefetchBuildInfo(Collection<GAV> artifacts) {
+            }
+        }).transform(new ManifestGenerator.SbomTransformContextImpl(bom));
+        return bom.getComponents().get(0);
+    }
+
+    private static void assertPncBuildInfo(Component c) {
+        assertThat(c.getHashes()).extracting(Hash::getValue).containsExactly("md5", "sha1", "sha256");
+        assertThat(c.getProperties()).filteredOn(p -> p.getName().equals("build-id")).extracting(Property::getValue)
+                .containsExactly("ABCD");
+        assertThat(c.getExternalReferences()).filteredOn(r -> r.getType() == ExternalReference.Type.DISTRIBUTION)
+                .extracting(ExternalReference::getUrl).containsExactly("https://maven.repository.redhat.com/ga/");
+    }
+
+    private static Component newComponent() {
+        final Component c = new Component();
+        c.setType(Component.Type.LIBRARY);
+        c.setGroup("org.acme");
+        c.setName("acme");
+        c.setVersion(VERSION);
+        c.setPurl(ACME_PURL);
+        c.setBomRef(ACME_PURL);
+        c.setProperties(new ArrayList<>());
+        return c;
+    }
+}
@@ -0,0 +1,108 @@
+package io.quarkus.domino.manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PreviousSbomTest {
+
+    private static final String ACME_PURL = "pkg:maven/org.acme/acme@1.0?type=jar";
+    private static final String LIB_PURL = "pkg:maven/org.acme/lib@1.0?type=jar";
+    private static final String OTHER_PURL = "pkg:maven/org.acme/other@1.0?type=jar";
+
+    @TempDir
+    Path workDir;
+
+    private PreviousSbom previousSbom;
+
+    @BeforeEach
+    public void writePreviousSbom() throws Exception {
+        final Component acme = newComponent("acme", ACME_PURL);
+        final LicenseChoice licenses = new LicenseChoice();
+        final License license = new License();
+        license.setId("Apache-2.0");
+        licenses.addLicense(license);
+        acme.setLicenses(licenses);
+        acme.setHashes(List.of(new Hash("SHA-1", "0123456789abcdef0123456789abcdef01234567")));
+
+        final Bom bom = new Bom();
+        bom.addComponent(acme);
+        bom.addComponent(newComponent("lib", LIB_PURL));
+        bom.addComponent(newComponent("other", OTHER_PURL));
+        final Dependency acmeDeps = new Dependency(acme.getBomRef());
+        acmeDeps.addDependency(new Dependency(LIB_PURL));
+        bom.setDependencies(List.of(acmeDeps));
+
+        final Path sbomFile = workDir.resolve("previous-sbom.json");
+        Files.writeString(sbomFile,
+                BomGeneratorFactory.createJson(Collections.max(List.of(Version.values())), bom).toJsonString());
+        previousSbom = PreviousSbom.read(sbomFile);
+    }
+
+    @Test
+    public void componentWithSameDependenciesIsCopied() {
+        final Component c = previousSbom.copyComponent(ACME_PURL, List.of(LIB_PURL), "new-ref", true, true);
+        assertThat(c).isNotNull();
+        assertThat(c.getPurl()).isEqualTo(ACME_PURL);
+        assertThat(c.getBomRef()).isEqualTo("new-ref");
+        assertThat(c.getLicenses().getLicenses()).hasSize(1);
+        assertThat(c.getLicenses().getLicenses().get(0).getId()).isEqualTo("Apache-2.0");
+        assertThat(c.getHashes()).hasSize(1);
+    }
+
+    @Test
+    public void changedDependenciesRequireRegeneration() {
+        assertThat(previousSbom.copyComponent(ACME_PURL, List.of(), null, false, true)).isNull();
+        assertThat(previousSbom.copyComponent(ACME_PURL, List.of(OTHER_PURL), null, false, true)).isNull();
+        assertThat(previousSbom.copyComponent(ACME_PURL, List.of(LIB_PURL, OTHER_PURL), null, false, true)).isNull();
+        assertThat(previousSbom.copyComponent("pkg:maven/org.acme/acme@2.0?type=jar", List.of(LIB_PURL), null, false,
+                true)).isNull();
+    }
+
+    @Test
+    public void componentWithoutHashesIsRegeneratedIfHashesAreRequired() {
+        assertThat(previousSbom.copyComponent(LIB_PURL, List.of(), null, true, true)).isNull();
+        assertThat(previousSbom.copyComponent(LIB_PURL, List.of(), null, false, true)).isNotNull();
+    }
+
+    @Test
+    public void disabledLicensesAndHashesAreNotCopied() {
+        final Component c = previousSbom.copyComponent(ACME_PURL, List.of(LIB_PURL), null, false, false);
+        assertThat(c).isNotNull();
+        assertThat(c.getLicenses()).isNull();
+        assertThat(c.getHashes()).isNull();
+    }
+
+    @Test
+    public void licensesAreNotShared() {
+        final Component first = previousSbom.copyComponent(ACME_PURL, List.of(LIB_PURL), null, false, true);
+        first.getLicenses().getLicenses().get(0).setId("MIT");
+        final Component second = previousSbom.copyComponent(ACME_PURL, List.of(LIB_PURL), null, false, true);
+        assertThat(second.getLicenses().getLicenses().get(0).getId()).isEqualTo("Apache-2.0");
+    }
+
+    private static Component newComponent(String name, String purl) {
+        final Component c = new Component();
+        c.setType(Component.Type.LIBRARY);
+        c.setGroup("org.acme");
+        c.setName(name);
+        c.setVersion("1.0");
+        c.setPurl(purl);
+        c.setBomRef(purl);
+        return c;
+    }
+}
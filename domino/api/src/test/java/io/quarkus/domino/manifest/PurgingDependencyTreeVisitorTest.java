@@ -0,0 +1,192 @@
+package io.quarkus.domino.manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.quarkus.domino.DependencyTreeVisitor;
+import io.quarkus.domino.scm.ScmRevision;
+import io.quarkus.maven.dependency.ArtifactCoords;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+
+public class PurgingDependencyTreeVisitorTest {
+
+    private static final ArtifactCoords APP = ArtifactCoords.jar("org.acme", "app", "1");
+    private static final ArtifactCoords OTHER_APP = ArtifactCoords.jar("org.acme", "other-app", "1");
+    private static final ArtifactCoords A = ArtifactCoords.jar("org.acme", "a", "1");
+    private static final ArtifactCoords B = ArtifactCoords.jar("org.acme", "b", "1");
+    private static final ArtifactCoords C = ArtifactCoords.jar("org.acme", "c", "1");
+    private static final ArtifactCoords D = ArtifactCoords.jar("org.acme", "d", "1");
+    private static final ArtifactCoords E = ArtifactCoords.jar("org.acme", "e", "1");
+
+    @Test
+    public void duplicateSubtreesArePurged() {
+        // app -> a -> b -> c
+        //     -> d -> a -> b -> c
+        // other-app -> a -> b -> c -> e
+        //           -> d -> a -> b -> c
+        var roots = visit(
+                node(APP,
+                        node(A, node(B, node(C))),
+                        node(D, node(A, node(B, node(C))))),
+                node(OTHER_APP,
+                        node(A, node(B, node(C, node(E)))),
+                        node(D, node(A, node(B, node(C))))));
+        assertThat(roots).hasSize(2);
+
+        var app = roots.get(0);
+        assertThat(app.getBomRef()).isEqualTo(purl(APP));
+        var a = getDependency(app, A);
+        assertThat(a.getBomRef()).isEqualTo(purl(A));
+        var d = getDependency(app, D);
+        assertThat(d.getBomRef()).isEqualTo(purl(D));
+        // the duplicate subtree is replaced with the one visited first
+        assertThat(getDependency(d, A)).isSameAs(a);
+
+        var otherApp = roots.get(1);
+        assertThat(otherApp.getBomRef()).isEqualTo(purl(OTHER_APP));
+        // differs from the first a only in the dependencies of c
+        var otherA = getDependency(otherApp, A);
+        assertThat(otherA.getBomRef()).isEqualTo("o.a:a:1#1");
+        var otherB = getDependency(otherA, B);
+        assertThat(otherB.getBomRef()).isEqualTo("o.a:b:1#1");
+        var otherC = getDependency(otherB, C);
+        assertThat(otherC.getBomRef()).isEqualTo("o.a:c:1#1");
+        assertThat(getDependency(otherC, E).getBomRef()).isEqualTo(purl(E));
+        assertThat(getDependency(otherApp, D)).isSameAs(d);
+
+        assertMatchesDirectDepsComparison(roots);
+    }
+
+    @Test
+    public void identicalRootsAreMerged() {
+        var roots = visit(
+                node(APP, node(A, node(B)), node(C)),
+                node(APP, node(C), node(A, node(B))));
+        assertThat(roots).hasSize(1);
+        var app = roots.get(0);
+        assertThat(app.getBomRef()).isEqualTo(purl(APP));
+        assertThat(app.getDependencies()).hasSize(2);
+        assertMatchesDirectDepsComparison(roots);
+    }
+
+    @Test
+    public void rootsWithDifferentDependenciesAreKept() {
+        var roots = visit(
+                node(APP, node(A, node(B))),
+                node(APP, node(A, node(C))));
+        assertThat(roots).hasSize(2);
+        assertThat(roots.get(0).getBomRef()).isEqualTo(purl(APP));
+        assertThat(roots.get(1).getBomRef()).isEqualTo("o.a:app:1#1");
+        assertMatchesDirectDepsComparison(roots);
+    }
+
+    /**
+     * Asserts that nodes of the purged trees share a bom-ref if and only if they have the same coordinates
+     * and the same bom-refs of their direct dependencies, which is how the variations were matched
+     * before the structure hashes were introduced.
+     */
+    private static void assertMatchesDirectDepsComparison(List<VisitedComponent> roots) {
+        final Map<String, String> signatureByBomRef = new HashMap<>();
+        final Map<String, String> bomRefBySignature = new HashMap<>();
+        final List<VisitedComponent> queue = new ArrayList<>(roots);
+        while (!queue.isEmpty()) {
+            var c = queue.remove(queue.size() - 1);
+            assertThat(c.getBomRef()).as("bom-ref of %s", c.getArtifactCoords()).isNotNull();
+            final TreeSet<String> depRefs = new TreeSet<>();
+            for (var dep : c.getDependencies()) {
+                depRefs.add(dep.getBomRef());
+                queue.add(dep);
+            }
+            final String signature = c.getArtifactCoords().toGACTVString() + depRefs;
+            var previousSignature = signatureByBomRef.put(c.getBomRef(), signature);
+            if (previousSignature != null) {
+                assertThat(signature).as("dependencies of %s", c.getBomRef()).isEqualTo(previousSignature);
+            }
+            var previousBomRef = bomRefBySignature.put(signature, c.getBomRef());
+            if (previousBomRef != null) {
+                assertThat(c.getBomRef()).as("bom-ref of %s", signature).isEqualTo(previousBomRef);
+            }
+        }
+    }
+
+    private static VisitedComponent getDependency(VisitedComponent c, ArtifactCoords coords) {
+        for (var dep : c.getDependencies()) {
+            if (dep.getArtifactCoords().equals(coords)) {
+                return dep;
+            }
+        }
+        throw new AssertionError(c.getArtifactCoords() + " does not depend on " + coords);
+    }
+
+    private static String purl(ArtifactCoords coords) {
+        return PurgingDependencyTreeVisitor.getPurl(coords).toString();
+    }
+
+    private static List<VisitedComponent> visit(TestNode... roots) {
+        var visitor = new PurgingDependencyTreeVisitor();
+        visitor.beforeAllRoots();
+        for (var root : roots) {
+            visitor.enterRootArtifact(root);
+            for (var child : root.children) {
+                visitDependency(visitor, child);
+            }
+            visitor.leaveRootArtifact(root);
+        }
+        visitor.afterAllRoots();
+        return visitor.getRoots();
+    }
+
+    private static void visitDependency(DependencyTreeVisitor visitor, TestNode node) {
+        visitor.enterDependency(node);
+        for (var child : node.children) {
+            visitDependency(visitor, child);
+        }
+        visitor.leaveDependency(node);
+    }
+
+    private static TestNode node(ArtifactCoords coords, TestNode... children) {
+        return new TestNode(coords, List.of(children));
+    }
+
+    private static class TestNode implements DependencyTreeVisitor.DependencyVisit {
+
+        private final ArtifactCoords coords;
+        private final List<TestNode> children;
+
+        private TestNode(ArtifactCoords coords, List<TestNode> children) {
+            this.coords = coords;
+            this.children = children;
+        }
+
+        @Override
+        public ScmRevision getRevision() {
+            return null;
+        }
+
+        @Override
+        public ArtifactCoords getCoords() {
+            return coords;
+        }
+
+        @Override
+        public List<RemoteRepository> getRepositories() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isManaged() {
+            return false;
+        }
+
+        @Override
+        public Path getPath() {
+            return null;
+        }
+    }
+}
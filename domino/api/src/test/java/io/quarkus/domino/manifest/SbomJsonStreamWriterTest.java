@@ -0,0 +1,107 @@
+package io.quarkus.domino.manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.ExternalReference;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SbomJsonStreamWriterTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void streamedOutputMatchesGeneratedString() throws Exception {
+        for (Version version : Version.values()) {
+            if (!version.getFormats().contains(Format.JSON)) {
+                continue;
+            }
+            final String expected = BomGeneratorFactory.createJson(version, newBom()).toJsonString();
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            SbomJsonStreamWriter.write(newBom(), version, out);
+            assertThat(out.toString(StandardCharsets.UTF_8)).as(version.getVersionString()).isEqualTo(expected);
+
+            final Path file = workDir.resolve(version.getVersionString()).resolve("sbom.json");
+            SbomJsonStreamWriter.write(newBom(), version, file);
+            assertThat(Files.readString(file)).as(version.getVersionString()).isEqualTo(expected);
+        }
+    }
+
+    private static Bom newBom() {
+        final Bom bom = new Bom();
+        bom.setSerialNumber("urn:uuid:3e671687-395b-41f5-a30f-a58921a69b79");
+        final Metadata metadata = new Metadata();
+        metadata.setTimestamp(new Date(0));
+        final Component product = newComponent("acme-product", List.of());
+        product.setType(Component.Type.APPLICATION);
+        metadata.setComponent(product);
+        bom.setMetadata(metadata);
+
+        final List<Dependency> dependencies = new ArrayList<>();
+        Dependency previous = null;
+        for (int i = 0; i < 10; ++i) {
+            final Component c = newComponent("acme-" + i, List.of(new Hash(Hash.Algorithm.SHA1, "sha1-" + i)));
+            bom.addComponent(c);
+            final Dependency d = new Dependency(c.getBomRef());
+            if (previous != null) {
+                d.addDependency(new Dependency(previous.getRef()));
+            }
+            dependencies.add(d);
+            previous = d;
+        }
+        bom.setDependencies(dependencies);
+        return bom;
+    }
+
+    private static Component newComponent(String name, List<Hash> hashes) {
+        final Component c = new Component();
+        c.setType(Component.Type.LIBRARY);
+        c.setGroup("org.acme");
+        c.setName(name);
+        c.setVersion("1.0");
+        c.setPurl("pkg:maven/org.acme/" + name + "@1.0?type=jar");
+        c.setBomRef(c.getPurl());
+        c.setDescription("Acme " + name);
+        c.setPublisher("Acme");
+        if (!hashes.isEmpty()) {
+            c.setHashes(hashes);
+        }
+
+        final LicenseChoice licenses = new LicenseChoice();
+        final License license = new License();
+        license.setId("Apache-2.0");
+        licenses.addLicense(license);
+        c.setLicenses(licenses);
+
+        final ExternalReference ref = new ExternalReference();
+        ref.setType(ExternalReference.Type.VCS);
+        ref.setUrl("https://github.com/acme/" + name);
+        c.setExternalReferences(List.of(ref));
+
+        final Property prop = new Property();
+        prop.setName("package:type");
+        prop.setValue("maven");
+        c.setProperties(List.of(prop));
+        return c;
+    }
+}
@@ -57,13 +57,27 @@ public class Build extends BaseDepsToBuildCommand {
     @CommandLine.Option(names = { "--manifest" }, description = "Generate an SBOM", defaultValue = "false")
     public boolean manifest;
 
+    @CommandLine.Option(names = {
+            "--build-cache" }, description = "Directory to cache build results in. If a project revision was already built against the same dependency versions, its artifacts will be restored from the cache instead of building the project again")
+    public File buildCacheDir;
+
+    @CommandLine.Option(names = {
+            "--local-repo-overlays" }, description = "Whether each build should read from the shared local Maven repository and write into its own overlay directory, which is merged into the shared repository once the build has finished. Requires Maven 3.9+", defaultValue = "false")
+    public boolean localRepoOverlays;
+
     @Override
     protected Integer process(ProjectDependencyResolver depResolver) {
 
         final Path workDir = Path.of("target").resolve("build").normalize().toAbsolutePath();
         final Path projectsDir = workDir.resolve("projects");
+        final Path overlaysDir = workDir.resolve("repo-overlays");
         final Path localMavenRepo = this.localMavenRepo == null ? workDir.resolve("local-maven-repo")
                 : this.localMavenRepo.toPath();
+        final BuildCache buildCache = buildCacheDir == null ? null : new BuildCache(buildCacheDir.toPath());
+
+        if (Files.exists(overlaysDir)) {
+            IoUtils.recursiveDelete(overlaysDir);
+        }
 
         if (Files.exists(projectsDir)) {
             log("Cleaning " + projectsDir);
@@ -113,21 +127,36 @@ public class Build extends BaseDepsToBuildCommand {
                         public Function<ExecutionContext<ScmRevision, ReleaseRepo, BuildResult>, TaskResult<ScmRevision, ReleaseRepo, BuildResult>> createFunction() {
                             return ctx -> {
                                 try {
+                                    final Map<ArtifactKey, String> reversionedDeps = getReversionedDeps(ctx);
+                                    final List<String> buildArgs = getBuildArgs(ctx);
+                                    final String cacheKey;
+                                    if (buildCache == null) {
+                                        cacheKey = null;
+                                    } else {
+                                        cacheKey = BuildCache.getKey(ctx.getId(), buildArgs, reversionedDeps);
+                                        final BuildCache.Entry cached = buildCache.restore(cacheKey, localMavenRepo);
+                                        if (cached != null) {
+                                            log("Restored " + ctx.getId() + " from the build cache");
+                                            return ctx.success(new BuildResult(null, cached.reversioned, cached.java8));
+                                        }
+                                    }
+
                                     final Path projectDir = cloneRepo(ctx.getNode(), projectsDir, ctx);
-                                    final BuildResult buildResult = reversionMavenProject(projectDir, ctx);
+                                    final BuildResult buildResult = reversionMavenProject(projectDir, reversionedDeps, ctx);
 
-                                    final List<String> command = new ArrayList<>();
+                                    final LocalRepoOverlay repoOverlay = localRepoOverlays
+                                            ? new LocalRepoOverlay(localMavenRepo,
+                                                    overlaysDir.resolve(projectsDir.relativize(projectDir).toString()))
+                                            : null;
+                                    final List<String> command = new ArrayList<>(buildArgs.size() + 5);
                                     command.add("mvn");
                                     command.add("install");
-                                    command.add("-Dmaven.repo.local=" + localMavenRepo);
-                                    if (ctx.getId().origin().toString().contains("slf4j")) {
-                                        command.add("-DskipTests");
+                                    if (repoOverlay == null) {
+                                        command.add("-Dmaven.repo.local=" + localMavenRepo);
                                     } else {
-                                        command.add("-Dmaven.test.skip");
+                                        command.addAll(repoOverlay.getMavenArgs());
                                     }
-                                    command.add("-Drat.skip");
-                                    command.add("-Danimal.sniffer.skip");
-                                    command.add("-Dmaven.javadoc.skip");
+                                    command.addAll(buildArgs);
 
                                     Process process = null;
                                     try {
@@ -167,6 +196,14 @@ public class Build extends BaseDepsToBuildCommand {
                                             }
                                         }
                                     }
+                                    if (buildCache != null) {
+                                        buildCache.store(cacheKey,
+                                                repoOverlay == null ? localMavenRepo : repoOverlay.getDir(),
+                                                buildResult.reversioned, buildResult.java8);
+                                    }
+                                    if (repoOverlay != null) {
+                                        repoOverlay.merge();
+                                    }
                                     return ctx.success(buildResult);
                                 } catch (Exception e) {
                                     e.printStackTrace();
@@ -192,7 +229,7 @@ public class Build extends BaseDepsToBuildCommand {
             sb.append(getBuildStatus(r)).append(" building ").append(r.getId());
             if (r.isFailure()) {
                 failure = true;
-                if (r.getOutcome() != null) {
+                if (r.getOutcome() != null && r.getOutcome().projectDir != null) {
                     sb.append(" (see ").append(r.getOutcome().projectDir.resolve("build.log")).append(" for details)");
                 }
             }
@@ -334,13 +371,30 @@ public class Build extends BaseDepsToBuildCommand {
         return projectDir;
     }
 
-    private static BuildResult reversionMavenProject(Path projectDir,
-            ExecutionContext<ScmRevision, ReleaseRepo, BuildResult> ctx) {
+    private static List<String> getBuildArgs(ExecutionContext<ScmRevision, ReleaseRepo, BuildResult> ctx) {
+        final List<String> args = new ArrayList<>(4);
+        if (ctx.getId().origin().toString().contains("slf4j")) {
+            args.add("-DskipTests");
+        } else {
+            args.add("-Dmaven.test.skip");
+        }
+        args.add("-Drat.skip");
+        args.add("-Danimal.sniffer.skip");
+        args.add("-Dmaven.javadoc.skip");
+        return args;
+    }
 
+    private static Map<ArtifactKey, String> getReversionedDeps(
+            ExecutionContext<ScmRevision, ReleaseRepo, BuildResult> ctx) {
         final Map<ArtifactKey, String> reversionedDeps = new HashMap<>();
         for (ScmRevision id : ctx.getDependencies()) {
             reversionedDeps.putAll(ctx.getDependencyResult(id).getOutcome().reversioned);
         }
+        return reversionedDeps;
+    }
+
+    private static BuildResult reversionMavenProject(Path projectDir, Map<ArtifactKey, String> reversionedDeps,
+            ExecutionContext<ScmRevision, ReleaseRepo, BuildResult> ctx) {
 
         final LocalProject rootProject;
         try {
@@ -0,0 +1,214 @@
+package io.quarkus.domino.cli;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.domino.scm.ScmRevision;
+import io.quarkus.maven.dependency.ArtifactKey;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content-addressed cache of successful {@link Build} results.
+ * <p>
+ * An entry is keyed by the SCM revision of a project, the build command line and the versions of
+ * the reversioned dependencies the project was built against. It stores the artifacts the build installed
+ * in the local Maven repository along with the reversioned project versions, so that a later build
+ * of the same input can restore them instead of cloning and building the project again.
+ */
+class BuildCache {
+
+    private static final String REVERSIONED_TXT = "reversioned.txt";
+    private static final String JAVA8 = "java8";
+    private static final String REPOSITORY = "repository";
+
+    static class Entry {
+        final Map<ArtifactKey, String> reversioned;
+        final boolean java8;
+
+        private Entry(Map<ArtifactKey, String> reversioned, boolean java8) {
+            this.reversioned = reversioned;
+            this.java8 = java8;
+        }
+    }
+
+    private final Path cacheDir;
+
+    BuildCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Calculates a cache key for a project build.
+     *
+     * @param revision project SCM revision
+     * @param command build command line, which should not include environment specific arguments,
+     *        such as the location of the local Maven repository
+     * @param reversionedDeps versions of the reversioned dependencies the project is built against
+     * @return cache key
+     */
+    static String getKey(ScmRevision revision, List<String> command, Map<ArtifactKey, String> reversionedDeps) {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to initialize SHA-256 message digest", e);
+        }
+        update(md, revision.getRepository().getId());
+        update(md, revision.getKind().name());
+        update(md, revision.getValue());
+        for (String arg : command) {
+            update(md, arg);
+        }
+        final List<String> deps = new ArrayList<>(reversionedDeps.size());
+        for (Map.Entry<ArtifactKey, String> e : reversionedDeps.entrySet()) {
+            deps.add(toString(e.getKey()) + "=" + e.getValue());
+        }
+        deps.sort(String::compareTo);
+        for (String s : deps) {
+            update(md, s);
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    private static void update(MessageDigest md, String s) {
+        md.update(s.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+    }
+
+    /**
+     * Looks up an entry for a key and, if found, restores the cached artifacts into the local Maven repository.
+     *
+     * @param key cache key
+     * @param localMavenRepo local Maven repository to restore the artifacts into
+     * @return cached entry or null, in case there is no entry for the key
+     */
+    Entry restore(String key, Path localMavenRepo) {
+        final Path entryDir = cacheDir.resolve(key);
+        final Path reversionedTxt = entryDir.resolve(REVERSIONED_TXT);
+        if (!Files.exists(reversionedTxt)) {
+            return null;
+        }
+        final Map<ArtifactKey, String> reversioned = new HashMap<>();
+        boolean java8 = false;
+        try (BufferedReader reader = Files.newBufferedReader(reversionedTxt)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (line.equals(JAVA8)) {
+                    java8 = true;
+                    continue;
+                }
+                final int eq = line.lastIndexOf('=');
+                final int colon = line.indexOf(':');
+                if (eq < 0 || colon < 0 || colon > eq) {
+                    // corrupted entry
+                    return null;
+                }
+                reversioned.put(ArtifactKey.ga(line.substring(0, colon), line.substring(colon + 1, eq)),
+                        line.substring(eq + 1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + reversionedTxt, e);
+        }
+        copyTree(entryDir.resolve(REPOSITORY), localMavenRepo);
+        return new Entry(reversioned, java8);
+    }
+
+    /**
+     * Stores the artifacts installed by a successful build in the cache.
+     *
+     * @param key cache key
+     * @param localMavenRepo local Maven repository the build installed its artifacts into
+     * @param reversioned reversioned project versions
+     * @param java8 whether the project was built with Java 8
+     */
+    void store(String key, Path localMavenRepo, Map<ArtifactKey, String> reversioned, boolean java8) {
+        final Path entryDir = cacheDir.resolve(key);
+        final Path tmpDir = cacheDir.resolve(key + ".tmp");
+        if (Files.exists(tmpDir)) {
+            IoUtils.recursiveDelete(tmpDir);
+        }
+        final Path repoDir = tmpDir.resolve(REPOSITORY);
+        for (Map.Entry<ArtifactKey, String> e : reversioned.entrySet()) {
+            final String relativePath = getVersionDir(e.getKey(), e.getValue());
+            final Path installed = localMavenRepo.resolve(relativePath);
+            if (Files.exists(installed)) {
+                copyTree(installed, repoDir.resolve(relativePath));
+            }
+        }
+        try {
+            Files.createDirectories(tmpDir);
+            try (BufferedWriter writer = Files.newBufferedWriter(tmpDir.resolve(REVERSIONED_TXT))) {
+                for (Map.Entry<ArtifactKey, String> e : reversioned.entrySet()) {
+                    writer.write(toString(e.getKey()));
+                    writer.write('=');
+                    writer.write(e.getValue());
+                    writer.newLine();
+                }
+                if (java8) {
+                    writer.write(JAVA8);
+                    writer.newLine();
+                }
+            }
+            if (Files.exists(entryDir)) {
+                IoUtils.recursiveDelete(entryDir);
+            }
+            Files.move(tmpDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store build cache entry " + entryDir, e);
+        }
+    }
+
+    private static String toString(ArtifactKey key) {
+        return key.getGroupId() + ":" + key.getArtifactId();
+    }
+
+    private static String getVersionDir(ArtifactKey key, String version) {
+        return key.getGroupId().replace('.', '/') + "/" + key.getArtifactId() + "/" + version;
+    }
+
+    private static void copyTree(Path source, Path target) {
+        if (!Files.exists(source)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(source, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    final String name = file.getFileName().toString();
+                    // remote repository tracking files are specific to the build that produced them
+                    if (!name.equals("_remote.repositories") && !name.endsWith(".lastUpdated")) {
+                        Files.copy(file, target.resolve(source.relativize(file).toString()),
+                                StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy " + source + " to " + target, e);
+        }
+    }
+}
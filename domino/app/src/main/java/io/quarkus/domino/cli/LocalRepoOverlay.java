@@ -0,0 +1,178 @@
+package io.quarkus.domino.cli;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Reader;
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Writer;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * A per-build local Maven repository overlay.
+ * <p>
+ * A build process reads artifacts from a shared base repository, which is configured as a read-only
+ * tail of the local repository chain (requires Maven 3.9+), and writes everything it downloads or installs
+ * into its own overlay directory. Once the build has finished, the overlay is merged into the base repository
+ * so that the artifacts become visible to the builds depending on it.
+ */
+class LocalRepoOverlay {
+
+    private final Path baseRepo;
+    private final Path overlayDir;
+
+    LocalRepoOverlay(Path baseRepo, Path overlayDir) {
+        this.baseRepo = baseRepo;
+        this.overlayDir = overlayDir;
+    }
+
+    Path getDir() {
+        return overlayDir;
+    }
+
+    /**
+     * Command line arguments configuring a Maven build to use this overlay.
+     *
+     * @return Maven command line arguments
+     */
+    List<String> getMavenArgs() {
+        return List.of(
+                "-Dmaven.repo.local=" + overlayDir,
+                "-Dmaven.repo.local.tail=" + baseRepo,
+                // artifacts in the base repository may have been downloaded by other builds from other repositories
+                "-Dmaven.repo.local.tail.ignoreAvailability=true");
+    }
+
+    /**
+     * Merges the content of the overlay into the base repository.
+     * <p>
+     * Each file is first copied next to its target location under a temporary name and then
+     * atomically linked or renamed, so readers of the base repository never observe partially written files.
+     * Files that already exist in the base repository are left untouched. The artifacts installed by the build
+     * itself are reversioned and so are expected to be unique to it.
+     * <p>
+     * The repository metadata files are the exception, the versions listed in the overlay metadata are added
+     * to the metadata of the base repository, so that version ranges and latest version lookups see them.
+     */
+    void merge() {
+        if (!Files.exists(overlayDir)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(overlayDir, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Files.createDirectories(baseRepo.resolve(overlayDir.relativize(dir).toString()));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    final String name = file.getFileName().toString();
+                    if (name.endsWith(".lastUpdated") || name.endsWith(".lock")) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    final Path target = baseRepo.resolve(overlayDir.relativize(file).toString());
+                    if (isMetadata(name)) {
+                        mergeMetadata(file, target);
+                    } else if (!Files.exists(target)) {
+                        moveAtomically(file, target);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to merge " + overlayDir + " into " + baseRepo, e);
+        }
+        IoUtils.recursiveDelete(overlayDir);
+    }
+
+    private static boolean isMetadata(String name) {
+        return name.startsWith("maven-metadata") && name.endsWith(".xml");
+    }
+
+    /**
+     * Adds the content of an overlay metadata file to the corresponding metadata file of the base repository.
+     * Builds merging their overlays concurrently, in this or other processes, are serialized with a lock
+     * on a file next to the target.
+     *
+     * @param source overlay metadata file
+     * @param target base repository metadata file
+     * @throws IOException in case of a failure
+     */
+    private static void mergeMetadata(Path source, Path target) throws IOException {
+        synchronized (LocalRepoOverlay.class) {
+            try (FileChannel channel = FileChannel.open(target.resolveSibling(target.getFileName() + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock lock = channel.lock()) {
+                if (!Files.exists(target)) {
+                    moveAtomically(source, target);
+                    return;
+                }
+                final Metadata metadata = readMetadata(target);
+                if (!metadata.merge(readMetadata(source))) {
+                    return;
+                }
+                final Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+                try {
+                    try (BufferedWriter writer = Files.newBufferedWriter(tmp)) {
+                        new MetadataXpp3Writer().write(writer, metadata);
+                    }
+                    try {
+                        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+        }
+    }
+
+    private static Metadata readMetadata(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            return new MetadataXpp3Reader().read(reader, false);
+        } catch (XmlPullParserException e) {
+            throw new IOException("Failed to parse " + file, e);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        final Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.copy(source, tmp, StandardCopyOption.REPLACE_EXISTING);
+            try {
+                // unlike a rename, creating a link fails if another build has merged the same file in the meantime
+                Files.createLink(target, tmp);
+            } catch (FileAlreadyExistsException e) {
+                // another build has merged the same file in the meantime
+            } catch (UnsupportedOperationException | IOException e) {
+                // hard links aren't supported by the file system
+                if (!Files.exists(target)) {
+                    try {
+                        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException ex) {
+                        Files.move(tmp, target);
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import io.quarkus.domino.ProjectDependencyConfig;
 import io.quarkus.domino.ProjectDependencyResolver;
 import io.quarkus.domino.manifest.SbomGeneratingDependencyVisitor;
 import io.quarkus.domino.manifest.SbomGenerator;
+import java.io.File;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
@@ -45,6 +46,18 @@ public class Report extends BaseDepsToBuildCommand {
             "--licenses" }, description = "Whether to resolve and record licenses for manifested components", defaultValue = "true")
     public boolean licenses;
 
+    @CommandLine.Option(names = {
+            "--stream-manifest" }, description = "Whether to write the SBOM incrementally instead of serializing it to a string first, which reduces memory consumption for large SBOMs", defaultValue = "false")
+    public boolean streamManifest;
+
+    @CommandLine.Option(names = {
+            "--previous-manifest" }, description = "Previously generated SBOM whose components should be re-used if their dependencies have not changed")
+    public File previousManifest;
+
+    @CommandLine.Option(names = {
+            "--component-metadata-cache" }, description = "Directory to persist component metadata of released artifacts to, so that it could be re-used by later runs")
+    public File componentMetadataCache;
+
     @CommandLine.Option(names = {
             "--hide-artifacts" }, description = "Patterns of artifact coordinates whose dependencies should be processed but the artifacts themselves should be excluded from the report", split = ",")
     public Collection<String> hideArtifacts = List.of();
@@ -94,6 +107,10 @@ public class Report extends BaseDepsToBuildCommand {
                                                     !(flatManifest || MANIFEST_DEPS_NONE.equals(manifestDependencies)))
                                             .setCalculateHashes(hashes)
                                             .setResolveLicenses(licenses)
+                                            .setStreamOutput(streamManifest)
+                                            .setPreviousSbom(previousManifest == null ? null : previousManifest.toPath())
+                                            .setMetadataCacheDir(componentMetadataCache == null ? null
+                                                    : componentMetadataCache.toPath())
                                             .setSchemaVersion(cdxSchemaVersion),
                                     resolverBuilder.getDependencyConfig()));
         }
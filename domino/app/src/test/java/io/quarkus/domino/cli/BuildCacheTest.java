@@ -0,0 +1,104 @@
+package io.quarkus.domino.cli;
+
+import io.quarkus.domino.scm.ScmRepository;
+import io.quarkus.domino.scm.ScmRevision;
+import io.quarkus.maven.dependency.ArtifactKey;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BuildCacheTest {
+
+    private static final ScmRevision REVISION = ScmRevision.tag(ScmRepository.ofUrl("https://github.com/acme/acme"),
+            "1.0");
+    private static final List<String> COMMAND = List.of("mvn", "install", "-DskipTests");
+    private static final ArtifactKey ACME = ArtifactKey.ga("org.acme", "acme");
+    private static final ArtifactKey ACME_DEP = ArtifactKey.ga("org.acme", "acme-dep");
+    private static final String ACME_DIR = "org/acme/acme/";
+    private static final String REVERSIONED = "1.0.redhat-00001";
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void keyDependsOnBuildInput() {
+        final String key = BuildCache.getKey(REVISION, COMMAND, Map.of(ACME_DEP, "2.0.redhat-00001"));
+        Assertions.assertEquals(key, BuildCache.getKey(REVISION, COMMAND, Map.of(ACME_DEP, "2.0.redhat-00001")));
+
+        Assertions.assertNotEquals(key, BuildCache.getKey(REVISION,
+                List.of("mvn", "install", "-DskipTests", "-Dquickly"), Map.of(ACME_DEP, "2.0.redhat-00001")));
+        Assertions.assertNotEquals(key, BuildCache.getKey(REVISION, COMMAND, Map.of(ACME_DEP, "2.0.redhat-00002")));
+        Assertions.assertNotEquals(key, BuildCache.getKey(REVISION, COMMAND, Map.of()));
+        Assertions.assertNotEquals(key,
+                BuildCache.getKey(ScmRevision.tag(REVISION.getRepository(), "1.1"), COMMAND,
+                        Map.of(ACME_DEP, "2.0.redhat-00001")));
+    }
+
+    @Test
+    public void keyDoesNotDependOnDependencyOrder() {
+        final ArtifactKey other = ArtifactKey.ga("org.acme", "acme-other");
+        Assertions.assertEquals(
+                BuildCache.getKey(REVISION, COMMAND, Map.of(ACME_DEP, "2.0.redhat-00001", other, "3.0.redhat-00001")),
+                BuildCache.getKey(REVISION, COMMAND, Map.of(other, "3.0.redhat-00001", ACME_DEP, "2.0.redhat-00001")));
+    }
+
+    @Test
+    public void storedBuildIsRestored() throws Exception {
+        final Path buildRepo = workDir.resolve("build-repo");
+        write(buildRepo.resolve(ACME_DIR + REVERSIONED + "/acme-" + REVERSIONED + ".jar"), "jar");
+        write(buildRepo.resolve(ACME_DIR + REVERSIONED + "/acme-" + REVERSIONED + ".pom"), "pom");
+        write(buildRepo.resolve(ACME_DIR + REVERSIONED + "/_remote.repositories"), "remote");
+        write(buildRepo.resolve(ACME_DIR + "1.0/acme-1.0.jar"), "original");
+        write(buildRepo.resolve("org/acme/acme-dep/2.0/acme-dep-2.0.jar"), "dep");
+
+        final BuildCache cache = new BuildCache(workDir.resolve("cache"));
+        final String key = BuildCache.getKey(REVISION, COMMAND, Map.of(ACME_DEP, "2.0.redhat-00001"));
+        cache.store(key, buildRepo, Map.of(ACME, REVERSIONED), true);
+
+        final Path localRepo = workDir.resolve("local-repo");
+        Assertions.assertNull(cache.restore(BuildCache.getKey(REVISION, COMMAND, Map.of()), localRepo));
+        Assertions.assertFalse(Files.exists(localRepo));
+
+        final BuildCache.Entry entry = cache.restore(key, localRepo);
+        Assertions.assertNotNull(entry);
+        Assertions.assertEquals(Map.of(ACME, REVERSIONED), entry.reversioned);
+        Assertions.assertTrue(entry.java8);
+        Assertions.assertEquals("jar",
+                Files.readString(localRepo.resolve(ACME_DIR + REVERSIONED + "/acme-" + REVERSIONED + ".jar")));
+        Assertions.assertEquals("pom",
+                Files.readString(localRepo.resolve(ACME_DIR + REVERSIONED + "/acme-" + REVERSIONED + ".pom")));
+        // only the reversioned artifacts are stored, without the remote repository tracking files
+        Assertions.assertFalse(Files.exists(localRepo.resolve(ACME_DIR + REVERSIONED + "/_remote.repositories")));
+        Assertions.assertFalse(Files.exists(localRepo.resolve(ACME_DIR + "1.0")));
+        Assertions.assertFalse(Files.exists(localRepo.resolve("org/acme/acme-dep")));
+    }
+
+    @Test
+    public void storedEntryIsReplaced() throws Exception {
+        final Path buildRepo = workDir.resolve("build-repo");
+        write(buildRepo.resolve(ACME_DIR + REVERSIONED + "/acme-" + REVERSIONED + ".jar"), "first");
+        final BuildCache cache = new BuildCache(workDir.resolve("cache"));
+        final String key = BuildCache.getKey(REVISION, COMMAND, Map.of());
+        cache.store(key, buildRepo, Map.of(ACME, REVERSIONED), true);
+
+        write(buildRepo.resolve(ACME_DIR + REVERSIONED + "/acme-" + REVERSIONED + ".jar"), "second");
+        cache.store(key, buildRepo, Map.of(ACME, REVERSIONED), false);
+
+        final Path localRepo = workDir.resolve("local-repo");
+        final BuildCache.Entry entry = cache.restore(key, localRepo);
+        Assertions.assertNotNull(entry);
+        Assertions.assertFalse(entry.java8);
+        Assertions.assertEquals("second",
+                Files.readString(localRepo.resolve(ACME_DIR + REVERSIONED + "/acme-" + REVERSIONED + ".jar")));
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
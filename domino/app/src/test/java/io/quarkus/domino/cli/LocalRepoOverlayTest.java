@@ -0,0 +1,95 @@
+package io.quarkus.domino.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Reader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalRepoOverlayTest {
+
+    private static final String ACME_DIR = "org/acme/acme/";
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void mavenArgs() {
+        final Path baseRepo = workDir.resolve("repo");
+        final Path overlayDir = workDir.resolve("overlay");
+        final LocalRepoOverlay overlay = new LocalRepoOverlay(baseRepo, overlayDir);
+        Assertions.assertEquals(overlayDir, overlay.getDir());
+        Assertions.assertEquals(List.of(
+                "-Dmaven.repo.local=" + overlayDir,
+                "-Dmaven.repo.local.tail=" + baseRepo,
+                "-Dmaven.repo.local.tail.ignoreAvailability=true"), overlay.getMavenArgs());
+    }
+
+    @Test
+    public void overlayIsMerged() throws Exception {
+        final Path baseRepo = workDir.resolve("repo");
+        final Path overlayDir = workDir.resolve("overlay");
+        write(baseRepo.resolve(ACME_DIR + "1.0/acme-1.0.jar"), "base");
+        write(overlayDir.resolve(ACME_DIR + "1.0/acme-1.0.jar"), "overlay");
+        write(overlayDir.resolve(ACME_DIR + "1.0.redhat-00001/acme-1.0.redhat-00001.jar"), "reversioned");
+        write(overlayDir.resolve(ACME_DIR + "2.0/acme-2.0.jar.lastUpdated"), "central=1");
+
+        new LocalRepoOverlay(baseRepo, overlayDir).merge();
+
+        // existing files are left untouched
+        Assertions.assertEquals("base", Files.readString(baseRepo.resolve(ACME_DIR + "1.0/acme-1.0.jar")));
+        Assertions.assertEquals("reversioned",
+                Files.readString(baseRepo.resolve(ACME_DIR + "1.0.redhat-00001/acme-1.0.redhat-00001.jar")));
+        Assertions.assertFalse(Files.exists(baseRepo.resolve(ACME_DIR + "2.0/acme-2.0.jar.lastUpdated")));
+        try (var files = Files.list(baseRepo.resolve(ACME_DIR + "1.0.redhat-00001"))) {
+            // no temporary files are left behind
+            Assertions.assertEquals(1, files.count());
+        }
+        Assertions.assertFalse(Files.exists(overlayDir));
+    }
+
+    @Test
+    public void metadataIsMerged() throws Exception {
+        final Path baseRepo = workDir.resolve("repo");
+        final Path overlayDir = workDir.resolve("overlay");
+        writeMetadata(baseRepo.resolve(ACME_DIR + "maven-metadata-local.xml"), "20240101000000", "1.0");
+        writeMetadata(overlayDir.resolve(ACME_DIR + "maven-metadata-local.xml"), "20240102000000",
+                "1.0", "1.0.redhat-00001");
+        writeMetadata(overlayDir.resolve("org/other/other/maven-metadata-local.xml"), "20240102000000", "2.0");
+
+        new LocalRepoOverlay(baseRepo, overlayDir).merge();
+
+        Metadata metadata = readMetadata(baseRepo.resolve(ACME_DIR + "maven-metadata-local.xml"));
+        Assertions.assertEquals(List.of("1.0", "1.0.redhat-00001"), metadata.getVersioning().getVersions());
+        Assertions.assertEquals("20240102000000", metadata.getVersioning().getLastUpdated());
+
+        metadata = readMetadata(baseRepo.resolve("org/other/other/maven-metadata-local.xml"));
+        Assertions.assertEquals(List.of("2.0"), metadata.getVersioning().getVersions());
+    }
+
+    private static void writeMetadata(Path file, String lastUpdated, String... versions) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("<metadata><groupId>org.acme</groupId><artifactId>acme</artifactId><versioning><versions>");
+        for (String v : versions) {
+            sb.append("<version>").append(v).append("</version>");
+        }
+        sb.append("</versions><lastUpdated>").append(lastUpdated).append("</lastUpdated></versioning></metadata>");
+        write(file, sb.toString());
+    }
+
+    private static Metadata readMetadata(Path file) throws Exception {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            return new MetadataXpp3Reader().read(reader, false);
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -240,6 +240,13 @@ public class DependenciesToBuildMojo extends AbstractMojo {
     @Parameter(property = "calculateHashes", defaultValue = "true")
     boolean calculateHashes;
 
+    /**
+     * Whether to write the manifest incrementally instead of serializing it to a string first,
+     * which reduces memory consumption for large manifests
+     */
+    @Parameter(property = "streamManifest")
+    boolean streamManifest;
+
     /**
      * Whether to resolve and record licenses for manifested components
      */
@@ -395,7 +402,8 @@ public class DependenciesToBuildMojo extends AbstractMojo {
                             .setProductInfo(dependencyConfig.getProductInfo())
                             .setSchemaVersion(cdxSchemaVersion)
                             .setCalculateHashes(calculateHashes)
-                            .setResolveLicenses(resolveLicenses),
+                            .setResolveLicenses(resolveLicenses)
+                            .setStreamOutput(streamManifest),
                     dependencyConfig);
             depsResolver.addDependencyTreeVisitor(sbomGenerator).build().resolveDependencies();
         } else {
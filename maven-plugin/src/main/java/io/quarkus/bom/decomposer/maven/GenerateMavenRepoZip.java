@@ -20,6 +20,10 @@ public class GenerateMavenRepoZip {
 
     private String includedVersionsPattern;
 
+    private boolean streamZipEntries;
+
+    private boolean zipMemberRepositories;
+
     public String getBom() {
         return bom;
     }
@@ -75,4 +79,32 @@ public class GenerateMavenRepoZip {
     public void setIncludedVersionsPattern(String includedVersionPattern) {
         this.includedVersionsPattern = includedVersionPattern;
     }
+
+    /**
+     * Whether artifacts should be written to the ZIP as they are resolved instead of zipping
+     * the repository directory once all the artifacts have been resolved.
+     *
+     * @return whether artifacts should be written to the ZIP as they are resolved
+     */
+    public boolean isStreamZipEntries() {
+        return streamZipEntries;
+    }
+
+    public void setStreamZipEntries(boolean streamZipEntries) {
+        this.streamZipEntries = streamZipEntries;
+    }
+
+    /**
+     * Whether the generated platform project should also write the Maven repository of each member
+     * to a ZIP archive next to it. The archive is not written by default.
+     *
+     * @return whether the Maven repository of each member should be written to a ZIP archive
+     */
+    public boolean isZipMemberRepositories() {
+        return zipMemberRepositories;
+    }
+
+    public void setZipMemberRepositories(boolean zipMemberRepositories) {
+        this.zipMemberRepositories = zipMemberRepositories;
+    }
 }
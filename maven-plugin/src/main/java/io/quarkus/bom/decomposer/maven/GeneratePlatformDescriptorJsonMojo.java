@@ -1,13 +1,15 @@
 package io.quarkus.bom.decomposer.maven;
 
 import io.quarkus.bom.decomposer.maven.platformgen.PlatformReleaseWithMembersConfig;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex.ExtensionDescriptor;
+import io.quarkus.bom.task.TaskInvoker;
 import io.quarkus.bootstrap.BootstrapConstants;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenContext;
 import io.quarkus.bootstrap.resolver.maven.MavenArtifactResolver;
 import io.quarkus.bootstrap.resolver.maven.workspace.LocalWorkspace;
 import io.quarkus.bootstrap.resolver.maven.workspace.ModelUtils;
 import io.quarkus.bootstrap.util.IoUtils;
-import io.quarkus.fs.util.ZipUtils;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.registry.CatalogMergeUtility;
@@ -18,17 +20,18 @@ import io.quarkus.registry.catalog.ExtensionOrigin;
 import io.quarkus.util.GlobUtil;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.maven.execution.MavenSession;
@@ -172,6 +175,13 @@ public class GeneratePlatformDescriptorJsonMojo extends AbstractMojo {
     @Parameter(property = "workspaceDiscovery")
     boolean workspaceDiscovery;
 
+    /**
+     * Maximum number of artifacts resolved and processed concurrently, defaults to the number of available processors.
+     * Setting it to 1 will resolve and process the artifacts sequentially.
+     */
+    @Parameter(property = "resolutionParallelism")
+    int resolutionParallelism;
+
     @Component
     RepositorySystem repoSystem;
 
@@ -227,19 +237,23 @@ public class GeneratePlatformDescriptorJsonMojo extends AbstractMojo {
 
         final List<OverrideInfo> allOverrides = new ArrayList<>();
         if (!metadataOverrideArtifacts.isEmpty()) {
+            final List<Callable<OverrideInfo>> overrideTasks = new ArrayList<>(metadataOverrideArtifacts.size());
             for (String s : metadataOverrideArtifacts) {
                 final ArtifactCoords coords = ArtifactCoords.fromString(s);
-                final File f;
-                try {
-                    f = repoSystem.resolveArtifact(repoSession, new ArtifactRequest().setArtifact(new DefaultArtifact(
-                            coords.getGroupId(), coords.getArtifactId(), coords.getClassifier(), coords.getType(),
-                            coords.getVersion())).setRepositories(repos))
-                            .getArtifact().getFile();
-                } catch (ArtifactResolutionException e) {
-                    throw new MojoExecutionException("Failed to resolve metadata override artifact " + coords, e);
-                }
-                allOverrides.add(getOverrideInfo(f));
+                overrideTasks.add(() -> {
+                    final File f;
+                    try {
+                        f = repoSystem.resolveArtifact(repoSession, new ArtifactRequest().setArtifact(new DefaultArtifact(
+                                coords.getGroupId(), coords.getArtifactId(), coords.getClassifier(), coords.getType(),
+                                coords.getVersion())).setRepositories(repos))
+                                .getArtifact().getFile();
+                    } catch (ArtifactResolutionException e) {
+                        throw new MojoExecutionException("Failed to resolve metadata override artifact " + coords, e);
+                    }
+                    return getOverrideInfo(f);
+                });
             }
+            allOverrides.addAll(invokeAll(overrideTasks, "Failed to resolve metadata override artifacts"));
         }
         for (String path : overridesFile.split(",")) {
             final File f = new File(path.trim());
@@ -269,14 +283,12 @@ public class GeneratePlatformDescriptorJsonMojo extends AbstractMojo {
         Map<ArtifactKey, Extension> inheritedExtensions = Map.of();
         if (!importedDescriptors.isEmpty()) {
             final MavenArtifactResolver mvnResolver = getResolver();
-            final List<ExtensionCatalog> importedCatalogs = new ArrayList<>(importedDescriptors.size());
-            try {
-                for (Artifact a : importedDescriptors) {
-                    importedCatalogs.add(ExtensionCatalog.fromFile(mvnResolver.resolve(a).getArtifact().getFile().toPath()));
-                }
-            } catch (Exception e) {
-                throw new MojoExecutionException("Failed to resolver inherited platform descriptor", e);
+            final List<Callable<ExtensionCatalog>> catalogTasks = new ArrayList<>(importedDescriptors.size());
+            for (Artifact a : importedDescriptors) {
+                catalogTasks.add(() -> ExtensionCatalog.fromFile(mvnResolver.resolve(a).getArtifact().getFile().toPath()));
             }
+            final List<ExtensionCatalog> importedCatalogs = invokeAll(catalogTasks,
+                    "Failed to resolve inherited platform descriptor");
             final ExtensionCatalog baseCatalog = CatalogMergeUtility.merge(importedCatalogs);
             List<ExtensionOrigin> derivedFrom = baseCatalog.getDerivedFrom();
             if (baseCatalog.getId() != null) {
@@ -319,8 +331,9 @@ public class GeneratePlatformDescriptorJsonMojo extends AbstractMojo {
             }
         }
 
-        // Create a JSON array of extension descriptors
-        final Set<String> referencedCategories = new HashSet<>();
+        // Collect the extension candidates, the ones that aren't inherited are resolved and processed concurrently
+        final List<Extension> candidates = new ArrayList<>();
+        final List<Callable<Extension.Mutable>> processingTasks = new ArrayList<>();
         boolean jsonFoundInBom = false;
         for (Dependency dep : deps) {
             final Artifact artifact = dep.getArtifact();
@@ -377,26 +390,27 @@ public class GeneratePlatformDescriptorJsonMojo extends AbstractMojo {
             var ext = inheritedExtensions.isEmpty() ? null
                     : inheritedExtensions.get(ArtifactKey.of(artifact.getGroupId(), artifact.getArtifactId(),
                             artifact.getClassifier(), artifact.getExtension()));
-            Extension.Mutable extension = ext == null ? null : ext.mutable();
+            candidates.add(ext);
+            if (ext == null) {
+                processingTasks.add(() -> resolveAndProcessDependency(artifact, bomArtifact, deps));
+            }
+        }
+        final Iterator<Extension.Mutable> processed = invokeAll(processingTasks, "Failed to process BOM dependencies")
+                .iterator();
+
+        // Create a JSON array of extension descriptors in the order of the BOM
+        final Set<String> referencedCategories = new HashSet<>();
+        for (Extension ext : candidates) {
+            Extension.Mutable extension;
             final List<ExtensionOrigin> origins;
-            if (extension == null) {
-                try {
-                    extension = processDependency(
-                            repoSystem.resolveArtifact(repoSession,
-                                    new ArtifactRequest().setRepositories(repos).setArtifact(artifact))
-                                    .getArtifact(),
-                            deps);
-                } catch (ArtifactResolutionException e) {
-                    // there are some parent poms that appear as jars for some reason
-                    debug("Failed to resolve dependency %s defined in %s", artifact, bomArtifact);
-                } catch (IOException e) {
-                    throw new MojoExecutionException("Failed to process dependency " + artifact, e);
-                }
+            if (ext == null) {
+                extension = processed.next();
                 if (extension == null) {
                     continue;
                 }
                 origins = List.of(platformJson);
             } else {
+                extension = ext.mutable();
                 origins = new ArrayList<>(extension.getOrigins().size() + 1);
                 origins.addAll(extension.getOrigins());
                 origins.add(platformJson);
@@ -715,47 +729,65 @@ public class GeneratePlatformDescriptorJsonMojo extends AbstractMojo {
         return value;
     }
 
-    private Extension.Mutable processDependency(Artifact artifact, List<Dependency> bomDependencies)
-            throws IOException, MojoExecutionException {
-        final Path path = artifact.getFile().toPath();
-        if (Files.isDirectory(path)) {
-            return processMetaInfDir(artifact, path.resolve(BootstrapConstants.META_INF), bomDependencies);
-        } else {
-            try (FileSystem artifactFs = ZipUtils.newFileSystem(path)) {
-                return processMetaInfDir(artifact, artifactFs.getPath(BootstrapConstants.META_INF), bomDependencies);
-            }
+    private Extension.Mutable resolveAndProcessDependency(Artifact artifact, Artifact bomArtifact,
+            List<Dependency> bomDependencies) throws MojoExecutionException {
+        final Artifact resolved;
+        try {
+            resolved = repoSystem.resolveArtifact(repoSession,
+                    new ArtifactRequest().setRepositories(repos).setArtifact(artifact)).getArtifact();
+        } catch (ArtifactResolutionException e) {
+            // there are some parent poms that appear as jars for some reason
+            debug("Failed to resolve dependency %s defined in %s", artifact, bomArtifact);
+            return null;
+        }
+        try {
+            return processDependency(resolved, bomDependencies);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to process dependency " + artifact, e);
         }
     }
 
     /**
-     * Load and return javax.jsonObject based on yaml, json or properties file.
+     * Runs the tasks using a pool bounded by {@link #resolutionParallelism} and returns their results
+     * in the order of the tasks.
      *
-     * @param artifact
-     * @param metaInfDir
-     * @return
-     * @throws IOException
-     * @throws MojoExecutionException
+     * @param tasks tasks to run
+     * @param errorMsg error message in case a task fails
+     * @return results of the tasks in the order of the tasks
+     * @throws MojoExecutionException in case a task failed
      */
-    private Extension.Mutable processMetaInfDir(Artifact artifact, Path metaInfDir, List<Dependency> bomDependencies)
-            throws IOException, MojoExecutionException {
-
-        if (!Files.exists(metaInfDir)) {
-            return null;
+    private <T> List<T> invokeAll(List<Callable<T>> tasks, String errorMsg) throws MojoExecutionException {
+        try {
+            return TaskInvoker.invokeAll(tasks, resolutionParallelism);
+        } catch (MojoExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MojoExecutionException(errorMsg, e);
         }
+    }
 
-        Path yaml = metaInfDir.resolve(BootstrapConstants.QUARKUS_EXTENSION_FILE_NAME);
-        if (Files.exists(yaml)) {
-            return processPlatformArtifact(artifact, yaml, bomDependencies);
+    private Extension.Mutable processDependency(Artifact artifact, List<Dependency> bomDependencies)
+            throws IOException, MojoExecutionException {
+        final ExtensionDescriptor descriptor = ExtensionDescriptorIndex.getInstance()
+                .getDescriptor(artifact.getFile().toPath());
+        if (descriptor == null) {
+            return null;
         }
-
-        Extension.Mutable e = null;
-        final Path props = metaInfDir.resolve(BootstrapConstants.DESCRIPTOR_FILE_NAME);
-        if (Files.exists(props)) {
-            e = Extension.builder();
-            e.setArtifact(ArtifactCoords.of(artifact.getGroupId(), artifact.getArtifactId(),
-                    artifact.getClassifier(), artifact.getExtension(), artifact.getVersion()));
-            e.setName(artifact.getArtifactId());
+        if (descriptor.hasMetadata()) {
+            // the extension metadata is parsed by Extension.mutableFromFile(), so it is copied to a temporary file
+            final Path yaml = Files.createTempFile(artifact.getArtifactId() + "-",
+                    "-" + BootstrapConstants.QUARKUS_EXTENSION_FILE_NAME);
+            try {
+                Files.writeString(yaml, descriptor.getMetadata());
+                return processPlatformArtifact(artifact, yaml, bomDependencies);
+            } finally {
+                Files.deleteIfExists(yaml);
+            }
         }
+        final Extension.Mutable e = Extension.builder();
+        e.setArtifact(ArtifactCoords.of(artifact.getGroupId(), artifact.getArtifactId(),
+                artifact.getClassifier(), artifact.getExtension(), artifact.getVersion()));
+        e.setName(artifact.getArtifactId());
         return e;
     }
 
@@ -766,7 +798,7 @@ public class GeneratePlatformDescriptorJsonMojo extends AbstractMojo {
         // Resolve integrates versions from BOM
         resolveIntegratesVersions(object, bomDependencies);
         if (object.getArtifact() == null) {
-            throw new MojoExecutionException(descriptor + " of " + artifact
+            throw new MojoExecutionException(BootstrapConstants.EXTENSION_METADATA_PATH + " of " + artifact
                     + " is missing the artifact coordinates, please make sure the extension metadata is complete");
         }
         debug("Adding Quarkus extension %s", object.getArtifact());
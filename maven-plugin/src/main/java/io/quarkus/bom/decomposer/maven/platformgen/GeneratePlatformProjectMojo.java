@@ -36,6 +36,8 @@ import io.quarkus.bom.platform.SbomerProductConfig;
 import io.quarkus.bom.resolver.ArtifactResolver;
 import io.quarkus.bom.resolver.ArtifactResolverProvider;
 import io.quarkus.bom.resolver.EffectiveModelResolver;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex.ExtensionDescriptor;
 import io.quarkus.bom.task.PlatformGenTaskScheduler;
 import io.quarkus.bootstrap.BootstrapConstants;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenContext;
@@ -49,7 +51,6 @@ import io.quarkus.domino.ProjectDependencyConfig;
 import io.quarkus.fs.util.ZipUtils;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
-import io.quarkus.paths.PathTree;
 import io.quarkus.registry.Constants;
 import io.quarkus.registry.catalog.CatalogMapperHelper;
 import io.quarkus.registry.catalog.Extension;
@@ -78,6 +79,7 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -108,7 +110,9 @@ import org.apache.maven.model.PluginExecution;
 import org.apache.maven.model.PluginManagement;
 import org.apache.maven.model.Profile;
 import org.apache.maven.model.Resource;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
@@ -142,6 +146,13 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
     private static final String PLATFORM_RELEASE_PROP = "platform.release";
     private static final String DEPENDENCIES_TO_BUILD = "dependenciesToBuild";
     private static final String COLON = ":";
+    private static final String DEPS_TO_BUILD_MODULE = "quarkus-dependencies-to-build";
+    private static final String SBOM_MODULE = "quarkus-sbom";
+    private static final String MAVEN_REPO_ZIP_MODULE = "maven-repo-zip-generator";
+    private static final String EXTENSION_CHANGES_MODULE = "quarkus-extension-changes";
+    private static final String DIFF_HTML = "diff.html";
+    private static final String GENERATED_RELEASES_HTML = "generated-releases.html";
+    private static final String ORIGINAL_RELEASES_HTML = "original-releases.html";
     public static final String TEST = "test";
     public static final String ARG_LINE = "argLine";
     public static final String ENVIRONMENT_VARIABLES = "environmentVariables";
@@ -187,6 +198,9 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
     @Parameter(defaultValue = "${session}", readonly = true)
     MavenSession session;
 
+    @Parameter(defaultValue = "${mojoExecution}", readonly = true)
+    MojoExecution mojoExecution;
+
     @Parameter(required = true, defaultValue = "${basedir}/generated-platform-project")
     File outputDir;
 
@@ -209,6 +223,19 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
     @Parameter(property = "recordUpdatedBoms")
     boolean recordUpdatedBoms;
 
+    /**
+     * Directory to persist results of member BOM decomposition to, so that unchanged member BOMs
+     * do not have to be decomposed again by subsequent builds
+     */
+    @Parameter(property = "decompositionCacheDir")
+    File decompositionCacheDir;
+
+    /**
+     * Maximum number of member BOMs decomposed concurrently, defaults to the number of available processors
+     */
+    @Parameter(property = "decompositionParallelism")
+    int decompositionParallelism;
+
     /**
      * Extension metadata key glob patterns used when determining whether an extension should be selected for a rebuild
      * from source. The default value is {@code *-support}.
@@ -314,28 +341,49 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
         persistPom(pom);
 
         generateUniversalPlatformModule(pom);
+
+        // the modules are added to the parent POM before their generation is scheduled
+        // to keep their order independent of the order the tasks complete in
+        final PlatformGenTaskScheduler scheduler = PlatformGenTaskScheduler.getInstance();
         try {
-            generateMemberModules(pom);
+            generateMemberModules(pom, scheduler);
+            generateBomReports(scheduler);
+
+            if (dependenciesToBuild != null) {
+                pom.addModule(DEPS_TO_BUILD_MODULE);
+                scheduler.schedule(() -> generateDepsToBuildModule(pom));
+                pom.addModule(SBOM_MODULE);
+                scheduler.schedule(() -> generateSbomModule(pom));
+            }
+
+            if (platformConfig.getGenerateMavenRepoZip() != null) {
+                pom.addModule(MAVEN_REPO_ZIP_MODULE);
+                scheduler.schedule(() -> generateMavenRepoZipModule(pom));
+            }
+
+            pom.addModule(EXTENSION_CHANGES_MODULE);
+            scheduler.schedule(() -> generateExtensionChangesModule(pom));
+
+            // keep the Maven plugin as the last module to make sure the last module is deployable by the Nexus plugin
+            if (platformConfig.getAttachedMavenPlugin() != null) {
+                final String moduleName = ArtifactCoords
+                        .fromString(platformConfig.getAttachedMavenPlugin().getTargetPluginCoords()).getArtifactId();
+                pom.addModule(moduleName);
+                // the plugin module is aligned with the generated Quarkus BOM
+                scheduler.schedule(null, List.of(getMemberModuleTaskName(quarkusCore)),
+                        () -> generateMavenPluginModule(pom, moduleName));
+            }
+            scheduler.waitForCompletion();
         } catch (MojoExecutionException e) {
             throw e;
         } catch (Exception e) {
             throw new MojoExecutionException("Failed to generate platform project", e);
         }
-
-        if (dependenciesToBuild != null) {
-            generateDepsToBuildModule(pom);
-            generateSbomModule(pom);
-        }
-
-        if (platformConfig.getGenerateMavenRepoZip() != null) {
-            generateMavenRepoZipModule(pom);
-        }
-
-        generateExtensionChangesModule(pom);
-
-        // keep the Maven plugin as the last module to make sure the last module is deployable by the Nexus plugin
-        if (platformConfig.getAttachedMavenPlugin() != null) {
-            generateMavenPluginModule(pom);
+        if (scheduler.hasErrors()) {
+            for (var e : scheduler.getErrors()) {
+                getLog().error(e);
+            }
+            throw new MojoExecutionException("Failed to generate platform project, please see the errors logged above");
         }
 
         addReleaseProfile(pom);
@@ -348,39 +396,31 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
 
         recordUpdatedBoms();
         generateDominoCliConfig();
+        persistMemberFingerprints();
     }
 
-    private void generateMemberModules(Model parentPom) throws Exception {
-        final PlatformGenTaskScheduler scheduler = PlatformGenTaskScheduler.getInstance();
+    private void generateMemberModules(Model parentPom, PlatformGenTaskScheduler scheduler) throws Exception {
         for (PlatformMemberImpl member : members.values()) {
             final String moduleName = getArtifactIdBase(member.getGeneratedPlatformBom().getArtifactId());
             parentPom.addModule(moduleName);
-            scheduler.schedule(() -> generateMemberModule(parentPom, member, moduleName, scheduler));
-        }
-        scheduler.waitForCompletion();
-        if (scheduler.hasErrors()) {
-            for (var e : scheduler.getErrors()) {
-                getLog().error(e);
-            }
-            throw new MojoExecutionException("Failed to generate platform project, please see the errors logged above");
+            scheduler.schedule(getMemberModuleTaskName(member), List.of(),
+                    () -> generateMemberModule(parentPom, member, moduleName, scheduler));
         }
-        generateMemberReports();
     }
 
-    private void generateMemberReports() throws Exception {
-        final PlatformGenTaskScheduler reportScheduler = PlatformGenTaskScheduler.getInstance();
-        generateBomReports(reportScheduler);
-        reportScheduler.waitForCompletion();
-        if (reportScheduler.hasErrors()) {
-            for (var e : reportScheduler.getErrors()) {
-                getLog().error(e);
-            }
-            throw new MojoExecutionException("Failed to generate BOM reports, please see the errors logged above");
-        }
+    /**
+     * Name of the task generating the member module, which completes once the member BOM has been generated.
+     *
+     * @param member platform member
+     * @return name of the task generating the member module
+     */
+    private static String getMemberModuleTaskName(PlatformMemberImpl member) {
+        return "member-module:" + member.key();
     }
 
     private void generateMemberModule(Model parentPom, PlatformMemberImpl member, String moduleName,
             PlatformGenTaskScheduler scheduler) throws Exception {
+        initMemberFingerprint(member, moduleName);
         generateMemberModule(member, moduleName, parentPom);
         generateMemberBom(member);
         scheduler.schedule(() -> {
@@ -395,6 +435,77 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
         scheduler.addFinializingTask(() -> persistPom(member.baseModel));
     }
 
+    /**
+     * Calculates the fingerprint of the member inputs and reads the one persisted by the previous generation.
+     * The fingerprint includes the decomposed and aligned member BOMs, so it does not save the decomposition or
+     * the generation of the member modules. It is used to re-use the member BOM reports and the result of the last
+     * release check, while the generated POMs are written only if their content changed.
+     *
+     * @param member platform member
+     * @param moduleName member module name
+     */
+    private void initMemberFingerprint(PlatformMemberImpl member, String moduleName) {
+        member.fingerprintFile = buildDir.toPath().resolve("platform-member-fingerprints").resolve(moduleName + ".properties");
+        member.previousFingerprint = PlatformMemberFingerprint.read(member.fingerprintFile);
+        member.fingerprint = PlatformMemberFingerprint.calculate(
+                pluginDescriptor().getGroupId() + ":" + pluginDescriptor().getArtifactId() + ":"
+                        + pluginDescriptor().getVersion(),
+                project.getGroupId() + ":" + project.getArtifactId() + ":" + project.getVersion(),
+                getMemberConfigXml(member),
+                member.inputConstraints(),
+                member.originalBom,
+                member.generatedBom);
+        if (member.isUnchanged()) {
+            getLog().debug("The inputs of " + member.config().getName() + " have not changed since the previous generation");
+        }
+    }
+
+    /**
+     * Returns the plugin configuration relevant to a member, i.e. the platform configuration without the configuration
+     * of the other members.
+     *
+     * @param member platform member
+     * @return plugin configuration relevant to the member
+     */
+    private String getMemberConfigXml(PlatformMemberImpl member) {
+        final Xpp3Dom config = mojoExecution == null ? null : mojoExecution.getConfiguration();
+        final Xpp3Dom platformConfigDom = config == null ? null : config.getChild("platformConfig");
+        if (platformConfigDom == null) {
+            return "";
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (Xpp3Dom child : platformConfigDom.getChildren()) {
+            if (child.getName().equals("core")) {
+                if (member == quarkusCore) {
+                    sb.append(child);
+                }
+            } else if (child.getName().equals("members")) {
+                for (Xpp3Dom memberDom : child.getChildren()) {
+                    final Xpp3Dom name = memberDom.getChild("name");
+                    if (name != null && member.config().getName().equals(name.getValue())) {
+                        sb.append(memberDom);
+                    }
+                }
+            } else {
+                sb.append(child);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void persistMemberFingerprints() throws MojoExecutionException {
+        for (PlatformMemberImpl member : members.values()) {
+            if (member.fingerprint == null) {
+                continue;
+            }
+            try {
+                member.fingerprint.write(member.fingerprintFile, member.bomChanged);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Failed to persist " + member.fingerprintFile, e);
+            }
+        }
+    }
+
     private static void setParentVersion(Model model, Model parentModel) {
         var parent = model.getParent();
         var version = parentModel.getVersion();
@@ -422,19 +533,41 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
             throw new MojoExecutionException(e);
         }
 
-        final Path releasesReport = reportsOutputDir.resolve("main").resolve("generated-releases.html");
+        final Path releasesReport = reportsOutputDir.resolve("main").resolve(GENERATED_RELEASES_HTML);
         generateReleasesReport(universalGeneratedBom, releasesReport);
         index.universalBom(universalPlatformBomXml, universalGeneratedBom, releasesReport);
 
         var artifactResolver = ArtifactResolverProvider.get(getWorkspaceAwareMavenResolver());
+        // original BOM paths of the members with reports
+        final Map<ArtifactKey, Path> originalBomPaths = new ConcurrentHashMap<>();
         for (PlatformMemberImpl member : members.values()) {
             if (member.getInputBom() != null) {
-                scheduler.schedule(() -> generateBomReports(member.originalBom, member.generatedBom,
-                        reportsOutputDir.resolve(member.config().getName().toLowerCase()), index,
-                        member.generatedPomFile, artifactResolver));
+                final Path memberReportsDir = getMemberReportsDir(member, reportsOutputDir);
+                scheduler.schedule(null, List.of(getMemberModuleTaskName(member)), () -> {
+                    if (member.isUnchanged() && hasBomReports(memberReportsDir)) {
+                        getLog().debug("Skipping BOM reports of " + member.config().getName()
+                                + " since its inputs have not changed");
+                        originalBomPaths.put(member.key(), getOriginalBomPath(member.originalBom, artifactResolver));
+                    } else {
+                        originalBomPaths.put(member.key(), generateBomReports(member.originalBom, member.generatedBom,
+                                memberReportsDir, member.generatedPomFile, artifactResolver));
+                    }
+                });
             }
         }
-        scheduler.addFinializingTask(index::close);
+        scheduler.addFinializingTask(() -> {
+            // list the members in the index in the configured order
+            for (PlatformMemberImpl member : members.values()) {
+                final Path originalBomPath = originalBomPaths.get(member.key());
+                if (originalBomPath != null) {
+                    final Path memberReportsDir = getMemberReportsDir(member, reportsOutputDir);
+                    index.bomReport(originalBomPath, member.generatedPomFile, member.generatedBom,
+                            memberReportsDir.resolve(ORIGINAL_RELEASES_HTML), memberReportsDir.resolve(GENERATED_RELEASES_HTML),
+                            memberReportsDir.resolve(DIFF_HTML));
+                }
+            }
+            index.close();
+        });
 
         if (platformConfig.getGenerateBomReportsZip() != null) {
             scheduler.addFinializingTask(() -> {
@@ -714,30 +847,24 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
             resolved = a;
             relocated = false;
         }
-        PathTree.ofArchive(resolved.getFile().toPath()).accept(BootstrapConstants.DESCRIPTOR_PATH, visit -> {
-            if (visit != null) {
-                var props = new Properties();
-                try (BufferedReader reader = Files.newBufferedReader(visit.getPath())) {
-                    props.load(reader);
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-                if (relocated) {
-                    dominoConfig.addProjectArtifacts(ArtifactCoords.of(a.getGroupId(),
-                            a.getArtifactId(), a.getClassifier(), a.getExtension(), a.getVersion()));
-                }
-                dominoConfig.addProjectArtifacts(ArtifactCoords.of(resolved.getGroupId(),
-                        resolved.getArtifactId(), resolved.getClassifier(),
-                        resolved.getExtension(), resolved.getVersion()));
-                var deploymentArtifact = props.getProperty(BootstrapConstants.PROP_DEPLOYMENT_ARTIFACT);
-                if (deploymentArtifact == null) {
-                    getLog().warn("Failed to identify the deployment artifact for " + resolved + " in "
-                            + visit.getUrl());
-                } else {
-                    dominoConfig.addProjectArtifacts(ArtifactCoords.fromString(deploymentArtifact));
-                }
+        final ExtensionDescriptor descriptor = ExtensionDescriptorIndex.getInstance()
+                .getDescriptor(resolved.getFile().toPath());
+        if (descriptor != null && descriptor.hasProperties()) {
+            if (relocated) {
+                dominoConfig.addProjectArtifacts(ArtifactCoords.of(a.getGroupId(),
+                        a.getArtifactId(), a.getClassifier(), a.getExtension(), a.getVersion()));
+            }
+            dominoConfig.addProjectArtifacts(ArtifactCoords.of(resolved.getGroupId(),
+                    resolved.getArtifactId(), resolved.getClassifier(),
+                    resolved.getExtension(), resolved.getVersion()));
+            var deploymentArtifact = descriptor.getDeploymentArtifact();
+            if (deploymentArtifact == null) {
+                getLog().warn("Failed to identify the deployment artifact for " + resolved + " in "
+                        + BootstrapConstants.DESCRIPTOR_PATH);
+            } else {
+                dominoConfig.addProjectArtifacts(deploymentArtifact);
             }
-        });
+        }
     }
 
     private static boolean isExtensionCandidate(Artifact a, Collection<String> extensionGroupIds,
@@ -759,12 +886,11 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
     }
 
     private void generateExtensionChangesModule(Model parentPom) throws MojoExecutionException {
-        final String artifactId = "quarkus-extension-changes";
+        final String artifactId = EXTENSION_CHANGES_MODULE;
         final Model pom = newModel();
         pom.setArtifactId(artifactId);
         pom.setPackaging(ArtifactCoords.TYPE_POM);
         pom.setName(getNameBase(parentPom) + " " + artifactIdToName(artifactId));
-        parentPom.addModule(artifactId);
         final File pomXml = getPomFile(parentPom, artifactId);
         pom.setPomFile(pomXml);
         setParent(pom, parentPom);
@@ -829,12 +955,12 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
     }
 
     private void generateDepsToBuildModule(Model parentPom) throws MojoExecutionException {
-        generateDepsToBuildModule(parentPom, "quarkus-dependencies-to-build", "depsToBuild", "dependencies-to-build",
+        generateDepsToBuildModule(parentPom, DEPS_TO_BUILD_MODULE, "depsToBuild", "dependencies-to-build",
                 "-deps-to-build.txt", false);
     }
 
     private void generateSbomModule(Model parentPom) throws MojoExecutionException {
-        generateDepsToBuildModule(parentPom, "quarkus-sbom", "sbom", "sbom", ".json", true);
+        generateDepsToBuildModule(parentPom, SBOM_MODULE, "sbom", "sbom", ".json", true);
     }
 
     private void generateDepsToBuildModule(Model parentPom, String artifactId, String profileId, String outputDirName,
@@ -843,7 +969,6 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
         pom.setArtifactId(artifactId);
         pom.setPackaging(ArtifactCoords.TYPE_POM);
         pom.setName(getNameBase(parentPom) + " " + artifactIdToName(artifactId));
-        parentPom.addModule(artifactId);
         final File pomXml = getPomFile(parentPom, artifactId);
         pom.setPomFile(pomXml);
         setParent(pom, parentPom);
@@ -1105,8 +1230,35 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
         }
     }
 
-    private static void generateBomReports(DecomposedBom originalBom, DecomposedBom generatedBom, Path outputDir,
-            ReportIndexPageGenerator index, final Path platformBomXml, ArtifactResolver resolver)
+    private static Path getMemberReportsDir(PlatformMemberImpl member, Path reportsOutputDir) {
+        return reportsOutputDir.resolve(member.config().getName().toLowerCase());
+    }
+
+    /**
+     * Checks whether all the BOM reports generated by a previous run are present.
+     *
+     * @param outputDir member reports directory
+     * @return true, if all the BOM reports are present, otherwise false
+     */
+    private static boolean hasBomReports(Path outputDir) {
+        return Files.exists(outputDir.resolve(DIFF_HTML))
+                && Files.exists(outputDir.resolve(GENERATED_RELEASES_HTML))
+                && Files.exists(outputDir.resolve(ORIGINAL_RELEASES_HTML));
+    }
+
+    private static Path getOriginalBomPath(DecomposedBom originalBom, ArtifactResolver resolver) {
+        return originalBom.bomResolver() != null && originalBom.bomResolver().isResolved()
+                ? originalBom.bomResolver().pomPath()
+                : resolver.resolve(originalBom.bomArtifact()).getArtifact().getFile().toPath();
+    }
+
+    /**
+     * Generates BOM reports of a member.
+     *
+     * @return path to the original BOM
+     */
+    private static Path generateBomReports(DecomposedBom originalBom, DecomposedBom generatedBom, Path outputDir,
+            final Path platformBomXml, ArtifactResolver resolver)
             throws MojoExecutionException {
         final BomDiff.Config config = BomDiff.config();
         config.resolver(resolver);
@@ -1117,17 +1269,10 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
         }
         final BomDiff bomDiff = config.to(platformBomXml);
 
-        final Path diffFile = outputDir.resolve("diff.html");
-        HtmlBomDiffReportGenerator.config(diffFile).report(bomDiff);
-
-        final Path generatedReleasesFile = outputDir.resolve("generated-releases.html");
-        generateReleasesReport(generatedBom, generatedReleasesFile);
-
-        final Path originalReleasesFile = outputDir.resolve("original-releases.html");
-        generateReleasesReport(originalBom, originalReleasesFile);
-
-        index.bomReport(bomDiff.mainPath(), bomDiff.toPath(), generatedBom, originalReleasesFile, generatedReleasesFile,
-                diffFile);
+        HtmlBomDiffReportGenerator.config(outputDir.resolve(DIFF_HTML)).report(bomDiff);
+        generateReleasesReport(generatedBom, outputDir.resolve(GENERATED_RELEASES_HTML));
+        generateReleasesReport(originalBom, outputDir.resolve(ORIGINAL_RELEASES_HTML));
+        return bomDiff.mainPath();
     }
 
     private void addReleaseProfile(final Model pom) {
@@ -1232,14 +1377,11 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
         }
     }
 
-    private void generateMavenPluginModule(Model parentPom) throws MojoExecutionException {
+    private void generateMavenPluginModule(Model parentPom, String moduleName) throws MojoExecutionException {
 
         final ArtifactCoords targetCoords = ArtifactCoords
                 .fromString(platformConfig.getAttachedMavenPlugin().getTargetPluginCoords());
 
-        final String moduleName = targetCoords.getArtifactId();
-        parentPom.addModule(moduleName);
-
         if (platformConfig.getAttachedMavenPlugin().isImportSources()) {
             importOriginalPluginSources(parentPom, moduleName, platformConfig.getAttachedMavenPlugin(), targetCoords);
         } else {
@@ -1629,11 +1771,10 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
 
     private void generateMavenRepoZipModule(Model parentPom) throws MojoExecutionException {
         final Model pom = newModel();
-        final String artifactId = "maven-repo-zip-generator";
+        final String artifactId = MAVEN_REPO_ZIP_MODULE;
         pom.setArtifactId(artifactId);
         pom.setPackaging(ArtifactCoords.TYPE_POM);
         pom.setName(getNameBase(parentPom) + " " + artifactIdToName(artifactId));
-        parentPom.addModule(artifactId);
         final File pomXml = getPomFile(parentPom, artifactId);
         pom.setPomFile(pomXml);
         setParent(pom, parentPom);
@@ -1701,8 +1842,10 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
 
             final Path repoDir = repoOutputDir.resolve(m.getConfiguredPlatformBom().getArtifactId());
             e.addChild(textDomElement("repositoryDir", repoDir.toString()));
-            e.addChild(textDomElement("zipLocation",
-                    repoDir + "/" + m.getConfiguredPlatformBom().getArtifactId() + "-maven-repo.zip"));
+            if (generateMavenRepoZip.isZipMemberRepositories()) {
+                e.addChild(textDomElement("zipLocation",
+                        repoDir + "/" + m.getConfiguredPlatformBom().getArtifactId() + "-maven-repo.zip"));
+            }
 
             if (generateMavenRepoZip.getIncludedVersionsPattern() != null) {
                 e.addChild(textDomElement("includedVersionsPattern", generateMavenRepoZip.getIncludedVersionsPattern()));
@@ -1743,6 +1886,9 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
             if (generateMavenRepoZip.getIncludedVersionsPattern() != null) {
                 e.addChild(textDomElement("includedVersionsPattern", generateMavenRepoZip.getIncludedVersionsPattern()));
             }
+            if (generateMavenRepoZip.isStreamZipEntries()) {
+                e.addChild(textDomElement("streamZipEntries", "true"));
+            }
 
             final Xpp3Dom configuration = new Xpp3Dom(CONFIGURATION);
             configuration.addChild(e);
@@ -1800,7 +1946,7 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
 
         try {
             Files.createDirectories(platformBomXml.getParent());
-            ModelUtils.persistModel(platformBomXml, member.generatedBomModel);
+            persistModelIfChanged(platformBomXml, member.generatedBomModel);
         } catch (IOException e) {
             throw new MojoExecutionException("Failed to persist generated BOM to " + platformBomXml, e);
         }
@@ -1813,6 +1959,9 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
     }
 
     private boolean isChangedSinceLastRelease(PlatformMemberImpl member) throws MojoExecutionException {
+        if (member.bomChanged == null && member.isUnchanged() && member.previousFingerprint.getBomChanged() != null) {
+            member.bomChanged = member.previousFingerprint.getBomChanged();
+        }
         if (member.bomChanged == null) {
             final Artifact prevBomCoords = member.previousLastUpdatedBom();
             if (prevBomCoords == null) {
@@ -3089,7 +3238,11 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
                 .includePlatformProperties(platformConfig.getUniversal().isGeneratePlatformProperties())
                 .platformBom(bomArtifact)
                 .versionIncrementor(
-                        platformConfig.getRelease() == null ? null : platformConfig.getRelease().getVersionIncrementor());
+                        platformConfig.getRelease() == null ? null : platformConfig.getRelease().getVersionIncrementor())
+                .decompositionCacheDir(decompositionCacheDir == null ? null : decompositionCacheDir.toPath());
+        if (decompositionParallelism > 0) {
+            configBuilder.decompositionParallelism(decompositionParallelism);
+        }
 
         if (platformConfig.getBomGenerator() != null) {
             configBuilder.disableGroupAlignmentToPreferredVersions(
@@ -3250,6 +3403,9 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
         private Artifact prevBomRelease;
         private Boolean bomChanged;
         private List<org.eclipse.aether.graph.Dependency> inputConstraints;
+        private Path fingerprintFile;
+        private PlatformMemberFingerprint fingerprint;
+        private PlatformMemberFingerprint previousFingerprint;
 
         PlatformMemberImpl(PlatformMemberConfig config) {
             this.config = config;
@@ -3261,6 +3417,15 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
             return config;
         }
 
+        /**
+         * Whether the inputs of the member have not changed since the previous generation
+         *
+         * @return whether the inputs of the member have not changed since the previous generation
+         */
+        boolean isUnchanged() {
+            return fingerprint != null && fingerprint.matches(previousFingerprint);
+        }
+
         @Override
         public List<String> getExtensionGroupIds() {
             if (!config.getExtensionGroupIds().isEmpty()) {
@@ -3501,12 +3666,30 @@ public class GeneratePlatformProjectMojo extends AbstractMojo {
     private static void persistPom(final Model pom) throws MojoExecutionException {
         try {
             pom.getPomFile().getParentFile().mkdirs();
-            ModelUtils.persistModel(pom.getPomFile().toPath(), pom);
+            persistModelIfChanged(pom.getPomFile().toPath(), pom);
         } catch (IOException e) {
             throw new MojoExecutionException("Failed to generate the platform BOM " + pom.getPomFile(), e);
         }
     }
 
+    /**
+     * Persists a model unless the target file already has the same content, which preserves the last modified time
+     * of POMs that have not changed and lets the build skip them.
+     *
+     * @param pomXml target file
+     * @param model model to persist
+     * @throws IOException in case of a failure
+     */
+    private static void persistModelIfChanged(Path pomXml, Model model) throws IOException {
+        final StringWriter writer = new StringWriter();
+        new MavenXpp3Writer().write(writer, model);
+        final String content = writer.toString();
+        if (Files.exists(pomXml) && content.equals(Files.readString(pomXml))) {
+            return;
+        }
+        Files.writeString(pomXml, content);
+    }
+
     private static String getArtifactIdBase(Model pom) {
         return getArtifactIdBase(pom.getArtifactId());
     }
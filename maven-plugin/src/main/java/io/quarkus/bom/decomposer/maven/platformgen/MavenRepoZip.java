@@ -1,6 +1,7 @@
 package io.quarkus.bom.decomposer.maven.platformgen;
 
 import io.quarkus.bom.decomposer.maven.GenerateMavenRepoZip;
+import io.quarkus.bom.task.PlatformGenTaskScheduler;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenContext;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenContextConfig;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenException;
@@ -25,6 +26,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.maven.settings.Profile;
@@ -33,10 +36,15 @@ import org.apache.maven.settings.RepositoryPolicy;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.settings.io.DefaultSettingsReader;
 import org.apache.maven.settings.io.DefaultSettingsWriter;
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryEvent;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
 
 public class MavenRepoZip {
 
@@ -68,6 +76,10 @@ public class MavenRepoZip {
             if (config.getIncludedVersionsPattern() != null) {
                 includedVersionsPattern = Pattern.compile(GlobUtil.toRegexPattern(config.getIncludedVersionsPattern()));
             }
+            if (config.getZipLocation() != null) {
+                zipLocation = Path.of(config.getZipLocation()).toAbsolutePath().normalize();
+            }
+            streamZipEntries = config.isStreamZipEntries();
             return this;
         }
 
@@ -216,41 +228,148 @@ public class MavenRepoZip {
     private Set<ArtifactKey> excludedArtifacts = Set.of();
     private List<ArtifactCoords> extraArtifacts = List.of();
     private Pattern includedVersionsPattern;
+    private Path zipLocation;
+    private boolean streamZipEntries;
 
     private void doGenerate() {
         log.info("Generating Maven repository at " + repoDir);
         //IoUtils.recursiveDelete(repoDir);
 
+        final List<Artifact> roots = new ArrayList<>(managedDeps.size() + extraArtifacts.size());
         for (Dependency d : managedDeps) {
-            collectDependencies(d.getArtifact());
+            roots.add(d.getArtifact());
         }
         for (ArtifactCoords coords : extraArtifacts) {
-            collectDependencies(new DefaultArtifact(coords.getGroupId(), coords.getArtifactId(), coords.getClassifier(),
+            roots.add(new DefaultArtifact(coords.getGroupId(), coords.getArtifactId(), coords.getClassifier(),
                     coords.getType(), coords.getVersion()));
         }
-    }
 
-    private void collectDependencies(Artifact artifact) {
-        if (isFilteredOut(artifact)) {
+        if (zipLocation == null) {
+            resolveRepository(roots);
             return;
         }
+        try (MavenRepoZipWriter zipWriter = new MavenRepoZipWriter(zipLocation, repoDir)) {
+            if (streamZipEntries) {
+                // the artifacts are written to the ZIP as they are resolved
+                final MavenArtifactResolver originalResolver = resolver;
+                resolver = newResolver(zipWriter::addAsync);
+                try {
+                    resolveRepository(roots);
+                } finally {
+                    resolver = originalResolver;
+                }
+            } else {
+                resolveRepository(roots);
+                zipWriter.addRepositoryDir();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to generate " + zipLocation, e);
+        }
+        log.info("Generated " + zipLocation);
+    }
+
+    /**
+     * Resolves the dependencies of the roots to the repository directory. The dependency graphs of the roots
+     * are collected concurrently and each artifact found in them is resolved only once, along with the sources
+     * and the javadoc of the JAR roots.
+     *
+     * @param roots root artifacts
+     */
+    private void resolveRepository(List<Artifact> roots) {
+        final PlatformGenTaskScheduler scheduler = PlatformGenTaskScheduler.getInstance();
+        final Set<ArtifactCoords> scheduled = ConcurrentHashMap.newKeySet();
+        try {
+            final Set<ArtifactCoords> processedRoots = new HashSet<>(roots.size());
+            for (Artifact root : roots) {
+                if (!isFilteredOut(root) && processedRoots.add(toCoords(root))) {
+                    scheduler.schedule(() -> collectDependencies(root, scheduler, scheduled));
+                }
+            }
+            scheduler.waitForCompletion();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to generate Maven repository at " + repoDir, e);
+        }
+        if (scheduler.hasErrors()) {
+            for (var e : scheduler.getErrors()) {
+                log.error("Failed to resolve artifacts", e);
+            }
+            throw new RuntimeException("Failed to generate Maven repository, please see the errors logged above");
+        }
+    }
+
+    private void collectDependencies(Artifact artifact, PlatformGenTaskScheduler scheduler, Set<ArtifactCoords> scheduled)
+            throws Exception {
+        final DependencyNode root;
         try {
-            resolver.resolveDependencies(artifact, managedDeps);
+            root = resolver.collectDependencies(artifact, managedDeps).getRoot();
         } catch (BootstrapMavenException e) {
             throw new RuntimeException("Failed to collect dependencies of " + artifact, e);
         }
+        scheduleResolution(root, scheduler, scheduled);
 
-        if (artifact.getExtension().equals(ArtifactCoords.TYPE_POM)) {
-            return;
-        }
         if (ArtifactCoords.TYPE_JAR.equals(artifact.getExtension())) {
             // sources
-            resolveOrNull(new DefaultArtifact(artifact.getGroupId(), artifact.getArtifactId(), SOURCES,
-                    ArtifactCoords.TYPE_JAR, artifact.getVersion()));
+            scheduler.schedule(() -> resolveOrNull(new DefaultArtifact(artifact.getGroupId(), artifact.getArtifactId(),
+                    SOURCES, ArtifactCoords.TYPE_JAR, artifact.getVersion())));
             // javadoc
-            resolveOrNull(new DefaultArtifact(artifact.getGroupId(), artifact.getArtifactId(), JAVADOC,
-                    ArtifactCoords.TYPE_JAR, artifact.getVersion()));
+            scheduler.schedule(() -> resolveOrNull(new DefaultArtifact(artifact.getGroupId(), artifact.getArtifactId(),
+                    JAVADOC, ArtifactCoords.TYPE_JAR, artifact.getVersion())));
+        }
+    }
+
+    private void scheduleResolution(DependencyNode node, PlatformGenTaskScheduler scheduler, Set<ArtifactCoords> scheduled)
+            throws Exception {
+        final Artifact a = node.getArtifact();
+        if (a != null && scheduled.add(toCoords(a))) {
+            scheduler.schedule(() -> {
+                try {
+                    resolver.resolve(a);
+                } catch (BootstrapMavenException e) {
+                    throw new RuntimeException("Failed to resolve " + a, e);
+                }
+            });
         }
+        for (DependencyNode child : node.getChildren()) {
+            scheduleResolution(child, scheduler, scheduled);
+        }
+    }
+
+    /**
+     * Creates a resolver that notifies the listener about every artifact it resolves,
+     * including the POMs of the parents and the imported BOMs.
+     *
+     * @param listener resolved artifact file listener
+     * @return resolver
+     */
+    private MavenArtifactResolver newResolver(Consumer<Path> listener) {
+        final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(resolver.getSession());
+        session.setRepositoryListener(
+                ChainedRepositoryListener.newInstance(session.getRepositoryListener(), new AbstractRepositoryListener() {
+                    @Override
+                    public void artifactResolved(RepositoryEvent event) {
+                        final Artifact a = event.getArtifact();
+                        if (a != null && a.getFile() != null && event.getExceptions().isEmpty()) {
+                            listener.accept(a.getFile().toPath());
+                        }
+                    }
+                }));
+        try {
+            return MavenArtifactResolver.builder()
+                    .setRemoteRepositoryManager(resolver.getRemoteRepositoryManager())
+                    .setRepositorySystem(resolver.getSystem())
+                    .setRepositorySystemSession(session)
+                    .setRemoteRepositories(resolver.getRepositories())
+                    .setCurrentProject(resolver.getMavenContext().getCurrentProject())
+                    .build();
+        } catch (BootstrapMavenException e) {
+            throw new RuntimeException("Failed to initialize Maven artifact resolver", e);
+        }
+    }
+
+    private static ArtifactCoords toCoords(Artifact a) {
+        return ArtifactCoords.of(a.getGroupId(), a.getArtifactId(), a.getClassifier(), a.getExtension(), a.getVersion());
     }
 
     private boolean isFilteredOut(final Artifact artifact) {
@@ -0,0 +1,172 @@
+package io.quarkus.bom.decomposer.maven.platformgen;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes files of a Maven repository to a ZIP archive. Each file is read once through a {@link FileChannel},
+ * its SHA-1 checksum is calculated while the file is copied to the archive and is added as a {@code .sha1} entry
+ * right after the file.
+ * <p>
+ * Files can either be added as they are resolved, in which case they are written by a dedicated thread in the order
+ * they were added, or all at once by walking the repository directory.
+ */
+class MavenRepoZipWriter implements Closeable {
+
+    private static final String ROOT_DIR = "maven-repository/";
+    private static final String SHA1 = ".sha1";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path zipFile;
+    private final Path repoDir;
+    private final ZipOutputStream zipOut;
+    private final WritableByteChannel zipChannel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final MessageDigest sha1;
+    private final Set<Path> added = ConcurrentHashMap.newKeySet();
+    private ExecutorService writer;
+    private volatile IOException error;
+
+    MavenRepoZipWriter(Path zipFile, Path repoDir) throws IOException {
+        this.zipFile = zipFile.toAbsolutePath().normalize();
+        this.repoDir = repoDir;
+        try {
+            sha1 = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to initialize SHA-1 message digest", e);
+        }
+        Files.createDirectories(this.zipFile.getParent());
+        zipOut = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(this.zipFile), BUFFER_SIZE));
+        zipChannel = Channels.newChannel(zipOut);
+    }
+
+    /**
+     * Schedules a file resolved to the repository directory to be written to the archive.
+     * Files outside the repository directory and files that have already been added are ignored.
+     *
+     * @param file file in the repository directory
+     */
+    void addAsync(Path file) {
+        final Path normalized = file.toAbsolutePath().normalize();
+        if (!normalized.startsWith(repoDir) || !added.add(normalized)) {
+            return;
+        }
+        synchronized (this) {
+            if (writer == null) {
+                writer = Executors.newSingleThreadExecutor(r -> {
+                    final Thread t = new Thread(r, "maven-repo-zip-writer");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+        }
+        writer.execute(() -> {
+            if (error != null) {
+                return;
+            }
+            try {
+                writeEntry(normalized);
+            } catch (IOException e) {
+                error = e;
+            }
+        });
+    }
+
+    /**
+     * Writes the content of the repository directory to the archive, skipping the files that aren't
+     * artifacts or their checksums, such as the Maven settings and the resolver's tracking files.
+     *
+     * @throws IOException in case of a failure
+     */
+    void addRepositoryDir() throws IOException {
+        final List<Path> files;
+        try (Stream<Path> stream = Files.walk(repoDir)) {
+            files = stream.filter(Files::isRegularFile).filter(this::isArtifactFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            if (added.add(file)) {
+                writeEntry(file);
+            }
+        }
+    }
+
+    private boolean isArtifactFile(Path file) {
+        if (file.equals(zipFile) || file.getParent().equals(repoDir)) {
+            return false;
+        }
+        final String name = file.getFileName().toString();
+        return !name.equals("_remote.repositories")
+                && !name.equals("resolver-status.properties")
+                && !name.endsWith(".lastUpdated")
+                && !name.endsWith(SHA1)
+                && !name.endsWith(".md5");
+    }
+
+    private void writeEntry(Path file) throws IOException {
+        final String entryName = ROOT_DIR + repoDir.relativize(file).toString().replace('\\', '/');
+        sha1.reset();
+        zipOut.putNextEntry(new ZipEntry(entryName));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                sha1.update(buffer);
+                buffer.rewind();
+                while (buffer.hasRemaining()) {
+                    zipChannel.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            buffer.clear();
+        }
+        zipOut.closeEntry();
+
+        zipOut.putNextEntry(new ZipEntry(entryName + SHA1));
+        zipOut.write(HexFormat.of().formatHex(sha1.digest()).getBytes(StandardCharsets.US_ASCII));
+        zipOut.closeEntry();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (writer != null) {
+                writer.shutdown();
+                try {
+                    if (!writer.awaitTermination(1, TimeUnit.HOURS)) {
+                        throw new IOException("Timed out waiting for the entries to be written to " + zipFile);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the entries to be written to " + zipFile, e);
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        } finally {
+            zipOut.close();
+        }
+    }
+}
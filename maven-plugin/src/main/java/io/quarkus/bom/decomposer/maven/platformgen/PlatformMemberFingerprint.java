@@ -0,0 +1,159 @@
+package io.quarkus.bom.decomposer.maven.platformgen;
+
+import io.quarkus.bom.decomposer.DecomposedBom;
+import io.quarkus.bom.decomposer.ProjectDependency;
+import io.quarkus.bom.decomposer.ProjectRelease;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import org.eclipse.aether.graph.Dependency;
+
+/**
+ * Fingerprint of the inputs a platform member's modules are generated from: the version of the plugin,
+ * the configuration of the member, its input BOM constraints, its original and aligned decomposed BOMs.
+ * <p>
+ * A fingerprint is persisted after a successful generation along with whether the member's BOM changed
+ * since its last release, so that the next generation could tell whether the member's inputs changed.
+ * Since the decomposed BOMs are among the inputs, a fingerprint can only be calculated once the BOMs have been
+ * decomposed and aligned.
+ */
+class PlatformMemberFingerprint {
+
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String BOM_CHANGED = "bomChanged";
+
+    /**
+     * Reads a persisted fingerprint.
+     *
+     * @param file fingerprint file
+     * @return persisted fingerprint or null, if the file does not exist or could not be read
+     */
+    static PlatformMemberFingerprint read(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        final Properties props = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            props.load(reader);
+        } catch (IOException e) {
+            return null;
+        }
+        final String value = props.getProperty(FINGERPRINT);
+        if (value == null) {
+            return null;
+        }
+        final String bomChanged = props.getProperty(BOM_CHANGED);
+        return new PlatformMemberFingerprint(value, bomChanged == null ? null : Boolean.parseBoolean(bomChanged));
+    }
+
+    /**
+     * Calculates a fingerprint of platform member inputs.
+     *
+     * @param pluginCoords coordinates of the plugin generating the platform project
+     * @param projectCoords coordinates of the platform project
+     * @param memberConfig member configuration
+     * @param inputConstraints member input constraints
+     * @param originalBom decomposed member input BOM
+     * @param alignedBom decomposed aligned member BOM
+     * @return fingerprint
+     */
+    static PlatformMemberFingerprint calculate(String pluginCoords, String projectCoords, String memberConfig,
+            Collection<Dependency> inputConstraints, DecomposedBom originalBom, DecomposedBom alignedBom) {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to initialize SHA-256 message digest", e);
+        }
+        update(md, pluginCoords);
+        update(md, projectCoords);
+        update(md, memberConfig);
+        // the constraints are sorted to make the fingerprint independent of the order they were collected in
+        final List<String> constraints = new ArrayList<>(inputConstraints.size());
+        for (Dependency d : inputConstraints) {
+            constraints.add(d.getArtifact() + " " + d.getScope() + " " + d.getExclusions());
+        }
+        constraints.sort(String::compareTo);
+        for (String constraint : constraints) {
+            update(md, constraint);
+        }
+        update(md, originalBom);
+        update(md, alignedBom);
+        return new PlatformMemberFingerprint(HexFormat.of().formatHex(md.digest()), null);
+    }
+
+    private static void update(MessageDigest md, DecomposedBom bom) {
+        if (bom == null) {
+            update(md, "null");
+            return;
+        }
+        update(md, String.valueOf(bom.bomArtifact()));
+        // the releases are sorted to make the fingerprint independent of the order they were added in
+        final List<String> lines = new ArrayList<>();
+        for (ProjectRelease r : bom.releases()) {
+            for (ProjectDependency d : r.dependencies()) {
+                lines.add(r.id() + " " + d.artifact() + " " + d.dependency().getScope() + " "
+                        + d.dependency().getExclusions());
+            }
+        }
+        lines.sort(String::compareTo);
+        for (String line : lines) {
+            update(md, line);
+        }
+    }
+
+    private static void update(MessageDigest md, String s) {
+        md.update(s.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) '\n');
+    }
+
+    private final String value;
+    private final Boolean bomChanged;
+
+    private PlatformMemberFingerprint(String value, Boolean bomChanged) {
+        this.value = value;
+        this.bomChanged = bomChanged;
+    }
+
+    /**
+     * Whether the member BOM changed since its last release or null, if it wasn't checked.
+     *
+     * @return whether the member BOM changed since its last release or null, if it wasn't checked
+     */
+    Boolean getBomChanged() {
+        return bomChanged;
+    }
+
+    boolean matches(PlatformMemberFingerprint other) {
+        return other != null && value.equals(other.value);
+    }
+
+    /**
+     * Persists the fingerprint.
+     *
+     * @param file target file
+     * @param bomChanged whether the member BOM changed since its last release or null, if it wasn't checked
+     * @throws IOException in case of a failure
+     */
+    void write(Path file, Boolean bomChanged) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(FINGERPRINT + "=" + value);
+            writer.newLine();
+            if (bomChanged != null) {
+                writer.write(BOM_CHANGED + "=" + bomChanged);
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package io.quarkus.maven;
 
 import io.quarkus.bom.decomposer.maven.QuarkusWorkspaceProvider;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex.ExtensionDescriptor;
 import io.quarkus.bootstrap.BootstrapConstants;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenException;
 import io.quarkus.bootstrap.resolver.maven.MavenArtifactResolver;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
-import io.quarkus.paths.PathTree;
 import io.quarkus.registry.catalog.Extension;
 import io.quarkus.registry.catalog.ExtensionCatalog;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -18,7 +18,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -141,13 +140,9 @@ public class ValidateExtensionsJsonMojo extends AbstractMojo {
                 } catch (BootstrapMavenException e) {
                     throw new MojoExecutionException("Failed to resolve " + rtCoords, e);
                 }
-                final ArtifactCoords deploymentCoords = PathTree.ofDirectoryOrArchive(rtJar)
-                        .apply(BootstrapConstants.DESCRIPTOR_PATH, visit -> {
-                            if (visit == null) {
-                                return null;
-                            }
-                            return readDeploymentCoords(visit.getPath(), rtArtifact);
-                        });
+                final ExtensionDescriptor descriptor = ExtensionDescriptorIndex.getInstance().getDescriptor(rtJar);
+                final ArtifactCoords deploymentCoords = descriptor == null || !descriptor.hasProperties() ? null
+                        : readDeploymentCoords(descriptor, rtArtifact);
                 if (deploymentCoords == null) {
                     throw new MojoExecutionException(
                             "Failed to determine the corresponding deployment artifact for " + rtCoords.toCompactCoords());
@@ -219,51 +214,35 @@ public class ValidateExtensionsJsonMojo extends AbstractMojo {
             throw new MojoExecutionException("Failed to locate " + artifact + " at " + path);
         }
 
-        final PathTree content = PathTree.ofDirectoryOrArchive(path);
-        content.accept("META-INF", visit -> {
-            if (visit == null) {
-                return;
-            }
-
-            final Path metaInf = visit.getPath();
-            final Path descrProps = metaInf.resolve(BootstrapConstants.DESCRIPTOR_FILE_NAME);
-            final Path descrYaml = metaInf.resolve(BootstrapConstants.QUARKUS_EXTENSION_FILE_NAME);
-            if (ensureExtensionMetadata(artifact, descrProps, descrYaml)) {
-                final ArtifactCoords deployment = readDeploymentCoords(descrProps, artifact);
-                final ArtifactKey key = ArtifactKey.of(artifact.getGroupId(), artifact.getArtifactId(),
-                        artifact.getClassifier(),
-                        artifact.getExtension());
-                extensions.put(key, ArtifactCoords.of(key.getGroupId(), key.getArtifactId(), key.getClassifier(), key.getType(),
-                        artifact.getVersion()));
-                extensions.put(deployment.getKey(), deployment);
-            }
-        });
+        final ExtensionDescriptor descriptor = ExtensionDescriptorIndex.getInstance().getDescriptor(path);
+        if (descriptor != null && ensureExtensionMetadata(artifact, descriptor)) {
+            final ArtifactCoords deployment = readDeploymentCoords(descriptor, artifact);
+            final ArtifactKey key = ArtifactKey.of(artifact.getGroupId(), artifact.getArtifactId(),
+                    artifact.getClassifier(),
+                    artifact.getExtension());
+            extensions.put(key, ArtifactCoords.of(key.getGroupId(), key.getArtifactId(), key.getClassifier(), key.getType(),
+                    artifact.getVersion()));
+            extensions.put(deployment.getKey(), deployment);
+        }
     }
 
-    private ArtifactCoords readDeploymentCoords(final Path descrProps, Artifact artifact) {
-        final Properties props = new Properties();
-        try (BufferedReader reader = Files.newBufferedReader(descrProps)) {
-            props.load(reader);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read " + descrProps + " from " + artifact);
-        }
-        final String s = props.getProperty(BootstrapConstants.PROP_DEPLOYMENT_ARTIFACT);
-        if (s == null) {
-            throw new RuntimeException(
-                    artifact + " is missing " + BootstrapConstants.PROP_DEPLOYMENT_ARTIFACT + " property in " + descrProps);
+    private ArtifactCoords readDeploymentCoords(ExtensionDescriptor descriptor, Artifact artifact) {
+        final ArtifactCoords deployment = descriptor.getDeploymentArtifact();
+        if (deployment == null) {
+            throw new RuntimeException(artifact + " is missing " + BootstrapConstants.PROP_DEPLOYMENT_ARTIFACT
+                    + " property in " + BootstrapConstants.DESCRIPTOR_PATH);
         }
-        final ArtifactCoords deployment = ArtifactCoords.fromString(s);
         return deployment;
     }
 
-    private static boolean ensureExtensionMetadata(Artifact a, Path properties, Path yaml) {
-        final boolean propsExist = Files.exists(properties);
-        final boolean metadataExists = Files.exists(yaml);
+    private static boolean ensureExtensionMetadata(Artifact a, ExtensionDescriptor descriptor) {
+        final boolean propsExist = descriptor.hasProperties();
+        final boolean metadataExists = descriptor.hasMetadata();
         if (propsExist == metadataExists) {
             return propsExist;
         }
         if (metadataExists) {
-            throw new RuntimeException(a + " includes Quarkus extension metadata but not " + properties);
+            throw new RuntimeException(a + " includes Quarkus extension metadata but not " + BootstrapConstants.DESCRIPTOR_PATH);
         }
         throw new RuntimeException(
                 a + " includes Quarkus extension properties but not " + BootstrapConstants.EXTENSION_METADATA_PATH);
@@ -0,0 +1,103 @@
+package io.quarkus.bom.decomposer.maven.platformgen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenRepoZipWriterTest {
+
+    private static final String ACME_JAR = "org/acme/acme/1.0/acme-1.0.jar";
+    private static final String ACME_POM = "org/acme/acme/1.0/acme-1.0.pom";
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void repositoryDirIsZipped() throws Exception {
+        final Path repoDir = repoDir();
+        final Path zip = repoDir.resolve("acme-maven-repo.zip");
+        try (MavenRepoZipWriter writer = new MavenRepoZipWriter(zip, repoDir)) {
+            writer.addRepositoryDir();
+        }
+
+        final Map<String, String> entries = readZip(zip);
+        assertEquals(List.of(
+                "maven-repository/" + ACME_JAR,
+                "maven-repository/" + ACME_JAR + ".sha1",
+                "maven-repository/" + ACME_POM,
+                "maven-repository/" + ACME_POM + ".sha1"), List.copyOf(entries.keySet()));
+        assertEntry(entries, ACME_JAR, "jar content");
+        assertEntry(entries, ACME_POM, "<project/>");
+    }
+
+    @Test
+    public void addedFilesAreZipped() throws Exception {
+        final Path repoDir = repoDir();
+        final Path zip = workDir.resolve("acme-maven-repo.zip");
+        try (MavenRepoZipWriter writer = new MavenRepoZipWriter(zip, repoDir)) {
+            writer.addAsync(repoDir.resolve(ACME_POM));
+            writer.addAsync(repoDir.resolve(ACME_JAR));
+            // files that have already been added and files outside the repository are ignored
+            writer.addAsync(repoDir.resolve(ACME_POM));
+            writer.addAsync(Files.writeString(workDir.resolve("other.jar"), "other"));
+        }
+
+        final Map<String, String> entries = readZip(zip);
+        assertEquals(List.of(
+                "maven-repository/" + ACME_POM,
+                "maven-repository/" + ACME_POM + ".sha1",
+                "maven-repository/" + ACME_JAR,
+                "maven-repository/" + ACME_JAR + ".sha1"), List.copyOf(entries.keySet()));
+        assertEntry(entries, ACME_JAR, "jar content");
+        assertEntry(entries, ACME_POM, "<project/>");
+    }
+
+    private Path repoDir() throws IOException {
+        final Path repoDir = workDir.resolve("repo").toAbsolutePath().normalize();
+        write(repoDir.resolve(ACME_JAR), "jar content");
+        write(repoDir.resolve(ACME_POM), "<project/>");
+        // checksums, resolver tracking files and files in the root of the repository are not included
+        write(repoDir.resolve(ACME_JAR + ".sha1"), "stale");
+        write(repoDir.resolve(ACME_JAR + ".md5"), "stale");
+        write(repoDir.resolve("org/acme/acme/1.0/_remote.repositories"), "acme-1.0.jar>central=");
+        write(repoDir.resolve("org/acme/acme/1.0/acme-1.0-sources.jar.lastUpdated"), "central=1");
+        write(repoDir.resolve("org/acme/acme/resolver-status.properties"), "central=1");
+        write(repoDir.resolve("settings.xml"), "<settings/>");
+        return repoDir;
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private static void assertEntry(Map<String, String> entries, String path, String content) throws Exception {
+        assertEquals(content, entries.get("maven-repository/" + path));
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1")
+                .digest(content.getBytes(StandardCharsets.UTF_8))), entries.get("maven-repository/" + path + ".sha1"));
+    }
+
+    private static Map<String, String> readZip(Path zip) throws IOException {
+        final Map<String, String> entries = new LinkedHashMap<>();
+        try (InputStream is = Files.newInputStream(zip); ZipInputStream zis = new ZipInputStream(is)) {
+            ZipEntry e;
+            while ((e = zis.getNextEntry()) != null) {
+                entries.put(e.getName(), new String(zis.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
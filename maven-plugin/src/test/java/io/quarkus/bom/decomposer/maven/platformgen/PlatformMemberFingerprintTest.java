@@ -0,0 +1,92 @@
+package io.quarkus.bom.decomposer.maven.platformgen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.bom.decomposer.DecomposedBom;
+import io.quarkus.bom.decomposer.DefaultDecomposedBomBuilder;
+import io.quarkus.domino.scm.ScmRepository;
+import io.quarkus.domino.scm.ScmRevision;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.Dependency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PlatformMemberFingerprintTest {
+
+    private static final String PLUGIN = "io.quarkus:quarkus-platform-bom-maven-plugin:1.0";
+    private static final String PROJECT = "org.acme:acme-platform:1.0";
+    private static final String CONFIG = "<member><name>Acme</name></member>";
+    private static final ScmRevision ACME = ScmRevision.tag(ScmRepository.ofUrl("https://github.com/acme/acme"), "1.0");
+    private static final ScmRevision OTHER = ScmRevision.tag(ScmRepository.ofUrl("https://github.com/other/other"), "2.0");
+    private static final List<Dependency> CONSTRAINTS = List.of(
+            dependency("org.acme:acme-foo:1.0"),
+            dependency("org.acme:acme-bar:1.0"),
+            dependency("org.other:other-lib:2.0"));
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void sameInputsInDifferentOrder() throws Exception {
+        final List<Dependency> reversed = new ArrayList<>(CONSTRAINTS);
+        Collections.reverse(reversed);
+        final PlatformMemberFingerprint fingerprint = PlatformMemberFingerprint.calculate(PLUGIN, PROJECT, CONFIG,
+                CONSTRAINTS, bom(CONSTRAINTS), bom(CONSTRAINTS));
+        assertTrue(fingerprint.matches(PlatformMemberFingerprint.calculate(PLUGIN, PROJECT, CONFIG,
+                reversed, bom(reversed), bom(reversed))));
+    }
+
+    @Test
+    public void changedInputs() throws Exception {
+        final PlatformMemberFingerprint fingerprint = PlatformMemberFingerprint.calculate(PLUGIN, PROJECT, CONFIG,
+                CONSTRAINTS, bom(CONSTRAINTS), bom(CONSTRAINTS));
+        assertFalse(fingerprint.matches(PlatformMemberFingerprint.calculate(PLUGIN, PROJECT,
+                "<member><name>Acme</name><tests/></member>", CONSTRAINTS, bom(CONSTRAINTS), bom(CONSTRAINTS))));
+        assertFalse(fingerprint.matches(PlatformMemberFingerprint.calculate("io.quarkus:quarkus-platform-bom-maven-plugin:2.0",
+                PROJECT, CONFIG, CONSTRAINTS, bom(CONSTRAINTS), bom(CONSTRAINTS))));
+        assertFalse(fingerprint.matches(PlatformMemberFingerprint.calculate(PLUGIN, PROJECT, CONFIG,
+                CONSTRAINTS.subList(0, 2), bom(CONSTRAINTS), bom(CONSTRAINTS))));
+        final List<Dependency> upgraded = List.of(CONSTRAINTS.get(0), CONSTRAINTS.get(1),
+                dependency("org.other:other-lib:2.1"));
+        assertFalse(fingerprint.matches(PlatformMemberFingerprint.calculate(PLUGIN, PROJECT, CONFIG,
+                CONSTRAINTS, bom(CONSTRAINTS), bom(upgraded))));
+    }
+
+    @Test
+    public void persistedFingerprint() throws Exception {
+        final PlatformMemberFingerprint fingerprint = PlatformMemberFingerprint.calculate(PLUGIN, PROJECT, CONFIG,
+                CONSTRAINTS, bom(CONSTRAINTS), bom(CONSTRAINTS));
+        final Path file = workDir.resolve("fingerprints").resolve("acme.properties");
+        assertNull(PlatformMemberFingerprint.read(file));
+
+        fingerprint.write(file, true);
+        PlatformMemberFingerprint persisted = PlatformMemberFingerprint.read(file);
+        assertTrue(fingerprint.matches(persisted));
+        assertEquals(Boolean.TRUE, persisted.getBomChanged());
+
+        fingerprint.write(file, null);
+        persisted = PlatformMemberFingerprint.read(file);
+        assertTrue(fingerprint.matches(persisted));
+        assertNull(persisted.getBomChanged());
+    }
+
+    private static DecomposedBom bom(List<Dependency> deps) throws Exception {
+        final DefaultDecomposedBomBuilder builder = new DefaultDecomposedBomBuilder();
+        builder.bomArtifact(new DefaultArtifact("org.acme", "acme-bom", "pom", "1.0"));
+        for (Dependency d : deps) {
+            builder.bomDependency(d.getArtifact().getGroupId().equals("org.acme") ? ACME : OTHER, d);
+        }
+        return builder.build();
+    }
+
+    private static Dependency dependency(String coords) {
+        return new Dependency(new DefaultArtifact(coords), "compile");
+    }
+}
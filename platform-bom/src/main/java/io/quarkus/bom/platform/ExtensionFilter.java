@@ -6,16 +6,14 @@ import io.quarkus.bom.decomposer.DecomposedBomTransformer;
 import io.quarkus.bom.decomposer.ProjectDependency;
 import io.quarkus.bom.decomposer.ProjectRelease;
 import io.quarkus.bom.resolver.ArtifactResolver;
-import io.quarkus.bootstrap.BootstrapConstants;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex.ExtensionDescriptor;
+import io.quarkus.bom.task.PlatformGenTaskScheduler;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenException;
 import io.quarkus.devtools.messagewriter.MessageWriter;
 import io.quarkus.domino.scm.ScmRevision;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
-import io.quarkus.paths.PathTree;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -23,8 +21,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.aether.artifact.Artifact;
@@ -74,10 +72,12 @@ public class ExtensionFilter implements DecomposedBomTransformer {
         final Map<ArtifactKey, ProjectDependency> allDepMap = new HashMap<>();
         final Map<ArtifactKey, ProjectRelease> releaseMap = new HashMap<>();
         final Map<ScmRevision, ProjectRelease> releases = new HashMap<>();
+        final List<ProjectDependency> candidates = new ArrayList<>();
 
         for (ProjectRelease r : decomposed.releases()) {
             releases.put(r.id(), r);
             for (ProjectDependency d : r.dependencies()) {
+                candidates.add(d);
                 allDepList.add(d.dependency());
                 final ArtifactKey key = d.key();
                 allDepMap.put(key, d);
@@ -85,104 +85,37 @@ public class ExtensionFilter implements DecomposedBomTransformer {
             }
         }
 
-        final Map<ArtifactKey, AtomicInteger> depCounter = new HashMap<>();
-        final PlatformMemberExtensions memberExt = new PlatformMemberExtensions(member);
-        for (ProjectRelease r : decomposed.releases()) {
-            for (ProjectDependency d : r.dependencies()) {
-                final Artifact a = d.artifact();
-                final ArtifactKey extKey = d.key();
-                final Path p;
-                try {
-                    p = resolver.resolve(a).getArtifact().getFile().toPath();
-                } catch (Exception e) {
-                    log.warn("Failed to resolve " + a);
-                    allDepMap.remove(extKey);
-                    continue;
-                }
-                if (!p.getFileName().toString().endsWith(".jar")) {
-                    continue;
-                }
-
-                final String deploymentStr = PathTree.ofArchive(p).apply(BootstrapConstants.DESCRIPTOR_PATH, (visit) -> {
-                    if (visit == null) {
-                        return null;
-                    }
-                    final Properties props = new Properties();
-                    try (BufferedReader reader = Files.newBufferedReader(visit.getPath())) {
-                        props.load(reader);
-                    } catch (IOException e) {
-                        throw new RuntimeException("Failed to read " + visit.getPath() + " from " + p, e);
-                    }
-                    return props.getProperty(BootstrapConstants.PROP_DEPLOYMENT_ARTIFACT);
-                });
-                if (deploymentStr == null) {
-                    continue;
-                }
-
-                final ArtifactCoords deploymentCoords = ArtifactCoords.fromString(deploymentStr);
-                final ExtensionDeps ext = new ExtensionDeps(extKey);
-                ext.addDeploymentDep(deploymentCoords.getKey());
-                final AtomicInteger count = depCounter.computeIfAbsent(deploymentCoords.getKey(), k -> new AtomicInteger(0));
-                if (member.extensionCatalog().contains(extKey)) {
-                    count.incrementAndGet();
-                }
-
-                allDepMap.remove(deploymentCoords.getKey());
-                allDepMap.remove(extKey);
-
-                final AtomicBoolean runtimeCp = new AtomicBoolean(false);
-                final DependencyVisitor visitor = new DependencyVisitor() {
-
-                    @Override
-                    public boolean visitEnter(DependencyNode node) {
-                        if (node.getDependency() == null) {
-                            return true;
-                        }
-                        final Artifact a = node.getDependency().getArtifact();
-                        final ArtifactKey key = key(a);
-                        depCounter.computeIfAbsent(key, k -> new AtomicInteger(0)).incrementAndGet();
-                        allDepMap.remove(key);
-
-                        if (runtimeCp.get()) {
-                            ext.addRuntimeDep(key);
-                        } else {
-                            ext.addDeploymentDep(key);
-                        }
-
-                        final ProjectRelease r = releaseMap.get(key);
-                        if (r != null) {
-                            ext.addProjectDep(r);
-                            for (ProjectDependency d : r.dependencies()) {
-                                allDepMap.remove(d.key());
-                            }
-                        }
-                        return true;
-                    }
-
-                    @Override
-                    public boolean visitLeave(DependencyNode node) {
-                        return true;
-                    }
-                };
-                try {
-                    resolver.underlyingResolver().collectManagedDependencies(
-                            new DefaultArtifact(deploymentCoords.getGroupId(), deploymentCoords.getArtifactId(),
-                                    deploymentCoords.getClassifier(), deploymentCoords.getType(),
-                                    deploymentCoords.getVersion()),
-                            Collections.emptyList(), allDepList, Collections.emptyList(), Collections.emptyList(), "test")
-                            .getRoot().accept(visitor);
-                } catch (BootstrapMavenException e) {
-                    throw new BomDecomposerException("Failed to collect dependencies for " + deploymentCoords, e);
-                }
-                runtimeCp.set(true);
-                try {
-                    resolver.underlyingResolver().collectManagedDependencies(a,
-                            Collections.emptyList(), allDepList, Collections.emptyList(), Collections.emptyList(), "test")
-                            .getRoot().accept(visitor);
-                } catch (BootstrapMavenException e) {
-                    throw new BomDecomposerException("Failed to collect dependencies for " + a, e);
-                }
+        // the artifacts are scanned concurrently, the keys removed from allDepMap are collected and removed
+        // once all the artifacts have been scanned, so the order of the remaining entries does not depend on the timing
+        final Map<ArtifactKey, AtomicInteger> depCounter = new ConcurrentHashMap<>();
+        final Set<ArtifactKey> removedDeps = ConcurrentHashMap.newKeySet();
+        final ExtensionDeps[] scanned = new ExtensionDeps[candidates.size()];
+        final PlatformGenTaskScheduler scheduler = PlatformGenTaskScheduler.getInstance();
+        try {
+            for (int i = 0; i < candidates.size(); ++i) {
+                final int index = i;
+                final ProjectDependency d = candidates.get(i);
+                scheduler.schedule(() -> scanned[index] = scanDependency(d, allDepList, releaseMap, depCounter, removedDeps));
+            }
+            scheduler.waitForCompletion();
+        } catch (BomDecomposerException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BomDecomposerException("Failed to scan the artifacts of " + decomposed.bomArtifact(), e);
+        }
+        if (scheduler.hasErrors()) {
+            for (var e : scheduler.getErrors()) {
+                log.error("Failed to scan artifact", e);
+            }
+            throw new BomDecomposerException("Failed to scan the artifacts of " + decomposed.bomArtifact()
+                    + ", please see the errors logged above");
+        }
+        allDepMap.keySet().removeAll(removedDeps);
 
+        // extensions are added in the order of the BOM, as it would be in a sequential run
+        final PlatformMemberExtensions memberExt = new PlatformMemberExtensions(member);
+        for (ExtensionDeps ext : scanned) {
+            if (ext != null) {
                 memberExt.addExtension(ext);
             }
         }
@@ -230,6 +163,105 @@ public class ExtensionFilter implements DecomposedBomTransformer {
         return builder.build();
     }
 
+    /**
+     * Resolves an artifact and, in case it is an extension, collects the dependencies of the extension.
+     *
+     * @param d artifact
+     * @param allDepList all the constraints of the BOM
+     * @param releaseMap releases of the constraints of the BOM
+     * @param depCounter extension dependency counters
+     * @param removedDeps collects constraints that should not be present in the filtered BOM
+     * @return extension dependencies or null, in case the artifact is not an extension
+     * @throws BomDecomposerException in case of a failure
+     */
+    private ExtensionDeps scanDependency(ProjectDependency d, List<Dependency> allDepList,
+            Map<ArtifactKey, ProjectRelease> releaseMap, Map<ArtifactKey, AtomicInteger> depCounter,
+            Set<ArtifactKey> removedDeps) throws BomDecomposerException {
+        final Artifact a = d.artifact();
+        final ArtifactKey extKey = d.key();
+        final Path p;
+        try {
+            p = resolver.resolve(a).getArtifact().getFile().toPath();
+        } catch (Exception e) {
+            log.warn("Failed to resolve " + a);
+            removedDeps.add(extKey);
+            return null;
+        }
+        if (!p.getFileName().toString().endsWith(".jar")) {
+            return null;
+        }
+
+        final ExtensionDescriptor descriptor = ExtensionDescriptorIndex.getInstance().getDescriptor(p);
+        final ArtifactCoords deploymentCoords = descriptor == null ? null : descriptor.getDeploymentArtifact();
+        if (deploymentCoords == null) {
+            return null;
+        }
+
+        final ExtensionDeps ext = new ExtensionDeps(extKey);
+        ext.addDeploymentDep(deploymentCoords.getKey());
+        final AtomicInteger count = depCounter.computeIfAbsent(deploymentCoords.getKey(), k -> new AtomicInteger(0));
+        if (member.extensionCatalog().contains(extKey)) {
+            count.incrementAndGet();
+        }
+
+        removedDeps.add(deploymentCoords.getKey());
+        removedDeps.add(extKey);
+
+        final AtomicBoolean runtimeCp = new AtomicBoolean(false);
+        final DependencyVisitor visitor = new DependencyVisitor() {
+
+            @Override
+            public boolean visitEnter(DependencyNode node) {
+                if (node.getDependency() == null) {
+                    return true;
+                }
+                final Artifact a = node.getDependency().getArtifact();
+                final ArtifactKey key = key(a);
+                depCounter.computeIfAbsent(key, k -> new AtomicInteger(0)).incrementAndGet();
+                removedDeps.add(key);
+
+                if (runtimeCp.get()) {
+                    ext.addRuntimeDep(key);
+                } else {
+                    ext.addDeploymentDep(key);
+                }
+
+                final ProjectRelease r = releaseMap.get(key);
+                if (r != null) {
+                    ext.addProjectDep(r);
+                    for (ProjectDependency d : r.dependencies()) {
+                        removedDeps.add(d.key());
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave(DependencyNode node) {
+                return true;
+            }
+        };
+        try {
+            resolver.underlyingResolver().collectManagedDependencies(
+                    new DefaultArtifact(deploymentCoords.getGroupId(), deploymentCoords.getArtifactId(),
+                            deploymentCoords.getClassifier(), deploymentCoords.getType(),
+                            deploymentCoords.getVersion()),
+                    Collections.emptyList(), allDepList, Collections.emptyList(), Collections.emptyList(), "test")
+                    .getRoot().accept(visitor);
+        } catch (BootstrapMavenException e) {
+            throw new BomDecomposerException("Failed to collect dependencies for " + deploymentCoords, e);
+        }
+        runtimeCp.set(true);
+        try {
+            resolver.underlyingResolver().collectManagedDependencies(a,
+                    Collections.emptyList(), allDepList, Collections.emptyList(), Collections.emptyList(), "test")
+                    .getRoot().accept(visitor);
+        } catch (BootstrapMavenException e) {
+            throw new BomDecomposerException("Failed to collect dependencies for " + a, e);
+        }
+        return ext;
+    }
+
     private void addProjectRelease(final DecomposedBom.Builder builder, final ProjectRelease r) {
         final ProjectRelease.Builder prb = ProjectRelease.builder(r.id());
         for (ProjectDependency pd : r.dependencies()) {
@@ -1,6 +1,7 @@
 package io.quarkus.bom.platform;
 
 import io.quarkus.bom.PomSource;
+import io.quarkus.bom.decomposer.ArtifactVersionCache;
 import io.quarkus.bom.decomposer.BomDecomposer;
 import io.quarkus.bom.decomposer.BomDecomposerException;
 import io.quarkus.bom.decomposer.DecomposedBom;
@@ -15,6 +16,10 @@ import io.quarkus.bom.platform.version.SpPlatformVersionIncrementor;
 import io.quarkus.bom.resolver.ArtifactNotFoundException;
 import io.quarkus.bom.resolver.ArtifactResolver;
 import io.quarkus.bom.resolver.ArtifactResolverProvider;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex;
+import io.quarkus.bom.resolver.ExtensionDescriptorIndex.ExtensionDescriptor;
+import io.quarkus.bom.task.PlatformGenTaskScheduler;
+import io.quarkus.bom.task.TaskInvoker;
 import io.quarkus.bootstrap.BootstrapConstants;
 import io.quarkus.bootstrap.resolver.maven.BootstrapMavenException;
 import io.quarkus.bootstrap.resolver.maven.workspace.ModelUtils;
@@ -27,29 +32,31 @@ import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.registry.Constants;
 import io.quarkus.registry.util.PlatformArtifacts;
 import io.quarkus.util.GlobUtil;
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileSystem;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.graph.Dependency;
@@ -92,6 +99,12 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
 
     private Map<ArtifactKey, Map<String, Set<String>>> commonNotManagedDeps;
 
+    /**
+     * Dependency trees collected for the common not managed dependency report
+     * keyed by the root artifact and the fingerprint of the constraints they were collected with
+     */
+    private final Map<String, CompletableFuture<DependencyNode>> collectedDeps = new ConcurrentHashMap<>();
+
     private final PlatformVersionIncrementor versionIncrementor;
 
     public PlatformBomComposer(PlatformBomConfig config) throws BomDecomposerException {
@@ -107,13 +120,20 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
                 ? new PncVersionIncrementor(new SpPlatformVersionIncrementor())
                 : new SpPlatformVersionIncrementor();
 
-        logger.info("Decomposing " + config.quarkusBom().getInputBom());
-        final DecomposedBom originalQuarkusBom = BomDecomposer.config()
-                .logger(logger)
-                .mavenArtifactResolver(resolver())
-                .dependencies(getOriginalConstraints(config.quarkusBom(), false))
-                .bomArtifact(config.quarkusBom().getInputBom())
-                .decompose();
+        // make sure the resolver is initialized before it is shared by the decomposing threads
+        resolver();
+
+        // decompose the Quarkus BOM and the member BOMs concurrently, they do not depend on each other
+        final List<PlatformMember> externalMembers = config.externalMembers();
+        final List<Callable<DecomposedBom>> decompositionTasks = new ArrayList<>(externalMembers.size() + 1);
+        decompositionTasks.add(this::decomposeQuarkusBom);
+        for (PlatformMember member : externalMembers) {
+            decompositionTasks.add(() -> decomposeMember(member));
+        }
+        final List<DecomposedBom> decomposedBoms = decompose(decompositionTasks);
+
+        // merge the results in the configured order, so the outcome does not depend on the order the tasks completed
+        final DecomposedBom originalQuarkusBom = decomposedBoms.get(0);
         config.quarkusBom().setOriginalDecomposedBom(originalQuarkusBom);
         initQuarkusBomReleaseBuilders(originalQuarkusBom);
 
@@ -121,16 +141,10 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
             preferredReleases.computeIfAbsent(r.id().getRepository(), k -> new ArrayList<>()).add(r);
         }
 
-        for (PlatformMember member : config.externalMembers()) {
-            logger.info("Decomposing " + (member.getInputBom() == null ? member.key() : member.getInputBom()));
+        for (int i = 0; i < externalMembers.size(); ++i) {
+            final PlatformMember member = externalMembers.get(i);
+            final DecomposedBom originalBom = decomposedBoms.get(i + 1);
             members.put(member.key(), member);
-            DecomposedBom originalBom = BomDecomposer.config()
-                    .logger(logger)
-                    .mavenArtifactResolver(resolver())
-                    .dependencies(getOriginalConstraints(member, true))
-                    .bomArtifact(member.getInputBom() == null ? member.getConfiguredPlatformBom() : member.getInputBom())
-                    .decompose();
-            originalBom = ExtensionFilter.getInstance(resolver(), logger, member).transform(originalBom);
             member.setOriginalDecomposedBom(originalBom);
 
             if (!member.getOwnGroupIds().isEmpty()) {
@@ -159,6 +173,47 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
         updateMemberBoms();
     }
 
+    private DecomposedBom decomposeQuarkusBom() throws BomDecomposerException {
+        logger.info("Decomposing " + config.quarkusBom().getInputBom());
+        return BomDecomposer.config()
+                .logger(logger)
+                .mavenArtifactResolver(resolver())
+                .decompositionCache(config.decompositionCacheDir())
+                .dependencies(getOriginalConstraints(config.quarkusBom(), false))
+                .bomArtifact(config.quarkusBom().getInputBom())
+                .decompose();
+    }
+
+    private DecomposedBom decomposeMember(PlatformMember member) throws BomDecomposerException {
+        logger.info("Decomposing " + (member.getInputBom() == null ? member.key() : member.getInputBom()));
+        final DecomposedBom originalBom = BomDecomposer.config()
+                .logger(logger)
+                .mavenArtifactResolver(resolver())
+                .decompositionCache(config.decompositionCacheDir())
+                .dependencies(getOriginalConstraints(member, true))
+                .bomArtifact(member.getInputBom() == null ? member.getConfiguredPlatformBom() : member.getInputBom())
+                .decompose();
+        return ExtensionFilter.getInstance(resolver(), logger, member).transform(originalBom);
+    }
+
+    /**
+     * Runs BOM decomposition tasks using a pool bounded by the configured decomposition parallelism
+     * and returns their results in the order of the tasks.
+     *
+     * @param tasks decomposition tasks
+     * @return decomposed BOMs in the order of the tasks
+     * @throws BomDecomposerException in case a task failed
+     */
+    private List<DecomposedBom> decompose(List<Callable<DecomposedBom>> tasks) throws BomDecomposerException {
+        try {
+            return TaskInvoker.invokeAll(tasks, config.decompositionParallelism());
+        } catch (BomDecomposerException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BomDecomposerException("Failed to decompose BOM", e);
+        }
+    }
+
     private void initQuarkusBomReleaseBuilders(DecomposedBom originalQuarkusBom) throws BomDecomposerException {
         final PlatformMember quarkusBom = config.quarkusBom();
         final ExtensionFilter coreFilter = ExtensionFilter.getInstance(resolver(), logger, quarkusBom);
@@ -185,8 +240,7 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
             var configuredVersion = RhVersionPattern
                     .ensureNoRhQualifier(config.quarkusBom().getConfiguredPlatformBom().getVersion());
             var prevVersion = RhVersionPattern.ensureNoRhQualifier(config.quarkusBom().previousLastUpdatedBom().getVersion());
-            checkForChanges = new DefaultArtifactVersion(prevVersion)
-                    .compareTo(new DefaultArtifactVersion(configuredVersion)) >= 0;
+            checkForChanges = ArtifactVersionCache.compare(prevVersion, configuredVersion) >= 0;
         } else {
             checkForChanges = false;
         }
@@ -256,8 +310,7 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
             if (member.isIncrementBomVersionOnChange() && member.previousLastUpdatedBom() != null) {
                 var configuredVersion = RhVersionPattern.ensureNoRhQualifier(member.getConfiguredPlatformBom().getVersion());
                 var prevVersion = RhVersionPattern.ensureNoRhQualifier(member.previousLastUpdatedBom().getVersion());
-                checkForChanges = new DefaultArtifactVersion(prevVersion)
-                        .compareTo(new DefaultArtifactVersion(configuredVersion)) >= 0;
+                checkForChanges = ArtifactVersionCache.compare(prevVersion, configuredVersion) >= 0;
             } else {
                 checkForChanges = false;
             }
@@ -383,42 +436,19 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
                 return null;
             }
         }
-        final Properties props;
-        if (f.isDirectory()) {
-            props = loadPropertiesOrNull(f.toPath().resolve(BootstrapConstants.DESCRIPTOR_PATH));
-        } else {
-            try (FileSystem fs = FileSystems.newFileSystem(f.toPath(), (ClassLoader) null)) {
-                props = loadPropertiesOrNull(fs.getPath(BootstrapConstants.DESCRIPTOR_PATH));
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to read " + f, e);
-            }
-        }
-        if (props == null) {
+        final ExtensionDescriptor descriptor = ExtensionDescriptorIndex.getInstance().getDescriptor(f.toPath());
+        if (descriptor == null || !descriptor.hasProperties()) {
             return null;
         }
-        final String deploymentStr = props.getProperty(BootstrapConstants.PROP_DEPLOYMENT_ARTIFACT);
-        if (deploymentStr == null) {
+        final ArtifactCoords deploymentCoords = descriptor.getDeploymentArtifact();
+        if (deploymentCoords == null) {
             throw new IllegalStateException(a + " does not include the corresponding deployment artifact coordinates in its "
                     + BootstrapConstants.DESCRIPTOR_PATH);
         }
-        final ArtifactCoords deploymentCoords = ArtifactCoords.fromString(deploymentStr);
         return new ExtensionInfo(a, new DefaultArtifact(deploymentCoords.getGroupId(), deploymentCoords.getArtifactId(),
                 deploymentCoords.getClassifier(), deploymentCoords.getType(), deploymentCoords.getVersion()));
     }
 
-    private static Properties loadPropertiesOrNull(Path p) {
-        if (!Files.exists(p)) {
-            return null;
-        }
-        try (BufferedReader reader = Files.newBufferedReader(p)) {
-            final Properties props = new Properties();
-            props.load(reader);
-            return props;
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read " + p, e);
-        }
-    }
-
     private DecomposedBom generatePlatformBom() throws BomDecomposerException {
         final Map<ScmRevision, ProjectRelease.Builder> platformReleaseBuilders = new HashMap<>();
 
@@ -532,7 +562,7 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
             return;
         }
         logger.info("Collecting extension common not managed dependencies");
-        commonNotManagedDeps = new HashMap<>();
+        commonNotManagedDeps = new ConcurrentHashMap<>();
 
         final Map<ArtifactKey, ProjectDependency> universeConstraints = new HashMap<>();
         for (ProjectRelease.Builder r : releaseBuilders.values()) {
@@ -540,9 +570,25 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
                     d.artifact().getArtifactId(), d.artifact().getClassifier(), d.artifact().getExtension()), d));
         }
 
-        collectNotManagedExtensionDeps(config.quarkusBom(), universeConstraints);
-        for (PlatformMember member : config.externalMembers()) {
-            collectNotManagedExtensionDeps(member, universeConstraints);
+        final PlatformGenTaskScheduler scheduler = PlatformGenTaskScheduler.getInstance();
+        try {
+            collectNotManagedExtensionDeps(config.quarkusBom(), universeConstraints, scheduler);
+            for (PlatformMember member : config.externalMembers()) {
+                collectNotManagedExtensionDeps(member, universeConstraints, scheduler);
+            }
+            scheduler.waitForCompletion();
+        } catch (BomDecomposerException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BomDecomposerException("Failed to collect extension common not managed dependencies", e);
+        } finally {
+            collectedDeps.clear();
+        }
+        if (scheduler.hasErrors()) {
+            for (var e : scheduler.getErrors()) {
+                logger.error("Failed to collect extension dependencies", e);
+            }
+            throw new BomDecomposerException("Failed to collect extension common not managed dependencies reported above");
         }
 
         final Map<ScmRepository, ProjectRelease.Builder> releaseBuildersByOrigin = new HashMap<>(releaseBuilders.size());
@@ -558,7 +604,7 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
             final Set<String> strVersions = e.getValue().keySet();
             final List<ArtifactVersion> versions = new ArrayList<>(strVersions.size());
             for (String s : strVersions) {
-                versions.add(new DefaultArtifactVersion(s));
+                versions.add(ArtifactVersionCache.get(s));
             }
             Collections.sort(versions);
 
@@ -601,8 +647,8 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
         }
     }
 
-    private void collectNotManagedExtensionDeps(PlatformMember member, Map<ArtifactKey, ProjectDependency> universalConstraints)
-            throws BomDecomposerException {
+    private void collectNotManagedExtensionDeps(PlatformMember member, Map<ArtifactKey, ProjectDependency> universalConstraints,
+            PlatformGenTaskScheduler scheduler) throws Exception {
         final List<Dependency> combinedConstraints = new ArrayList<>();
         final List<ProjectDependency> memberSpecificConstraints = new ArrayList<>();
         final Set<ArtifactKey> constraintKeys = new HashSet<>();
@@ -615,6 +661,7 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
         }
 
         final List<String> extensionGroupIds = member.getExtensionGroupIds();
+        final List<Artifact> extensionCandidates = new ArrayList<>();
         final Consumer<ProjectDependency> c = new Consumer<>() {
             @Override
             public void accept(ProjectDependency dep) {
@@ -628,14 +675,7 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
                         || dep.dependency().getScope().equals("test")) {
                     return;
                 }
-                final ExtensionInfo ext = getExtensionInfoOrNull(a);
-                if (ext == null) {
-                    return;
-                }
-                collectNotManagedDependencies(collectDependencies(a, combinedConstraints).getChildren(), constraintKeys, member,
-                        a);
-                collectNotManagedDependencies(collectDependencies(ext.getDeployment(), combinedConstraints).getChildren(),
-                        constraintKeys, member, ext.getDeployment());
+                extensionCandidates.add(a);
             }
         };
 
@@ -651,6 +691,22 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
         } else {
             acceptConstraints(quarkusBomReleaseBuilders.values(), c);
         }
+
+        final String constraintsFingerprint = fingerprint(combinedConstraints);
+        for (Artifact a : extensionCandidates) {
+            scheduler.schedule(() -> {
+                final ExtensionInfo ext = getExtensionInfoOrNull(a);
+                if (ext == null) {
+                    return;
+                }
+                collectNotManagedDependencies(
+                        collectDependencies(a, combinedConstraints, constraintsFingerprint).getChildren(),
+                        constraintKeys, member, a);
+                collectNotManagedDependencies(
+                        collectDependencies(ext.getDeployment(), combinedConstraints, constraintsFingerprint).getChildren(),
+                        constraintKeys, member, ext.getDeployment());
+            });
+        }
     }
 
     private void collectNotManagedDependencies(Collection<DependencyNode> depNodes, Set<ArtifactKey> constraints,
@@ -662,8 +718,43 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
             if (constraints.contains(key)) {
                 continue;
             }
-            commonNotManagedDeps.computeIfAbsent(key, k -> new HashMap<>())
-                    .computeIfAbsent(a.getVersion(), k -> new HashSet<>()).add(member.config().getName());
+            commonNotManagedDeps.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(a.getVersion(), k -> ConcurrentHashMap.newKeySet()).add(member.config().getName());
+        }
+    }
+
+    /**
+     * Collects dependencies of an artifact or returns a previously collected dependency tree
+     * for the same artifact and constraints.
+     *
+     * @param a root artifact
+     * @param constraints dependency constraints
+     * @param constraintsFingerprint fingerprint of the dependency constraints
+     * @return dependency tree
+     */
+    private DependencyNode collectDependencies(Artifact a, List<Dependency> constraints, String constraintsFingerprint) {
+        final String key = a + "@" + constraintsFingerprint;
+        CompletableFuture<DependencyNode> collected = collectedDeps.get(key);
+        if (collected == null) {
+            final CompletableFuture<DependencyNode> newCollected = new CompletableFuture<>();
+            collected = collectedDeps.putIfAbsent(key, newCollected);
+            if (collected == null) {
+                collected = newCollected;
+                try {
+                    newCollected.complete(collectDependencies(a, constraints));
+                } catch (RuntimeException e) {
+                    newCollected.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        try {
+            return collected.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
         }
     }
 
@@ -680,6 +771,24 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
         return root;
     }
 
+    private static String fingerprint(List<Dependency> constraints) {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to initialize SHA-256 message digest", e);
+        }
+        for (Dependency d : constraints) {
+            md.update(d.getArtifact().toString().getBytes(StandardCharsets.UTF_8));
+            md.update((byte) ' ');
+            md.update(String.valueOf(d.getScope()).getBytes(StandardCharsets.UTF_8));
+            md.update((byte) ' ');
+            md.update(d.getExclusions().toString().getBytes(StandardCharsets.UTF_8));
+            md.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
     private ProjectDependency effectiveDep(ProjectDependency dep) {
         if (config.excluded(dep.key())) {
             return null;
@@ -842,9 +951,9 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
         // that ensures major.minor.micro parts are explicitly present in the version string
         // while in the upstream equivalent, for example, a the micro part could be missing
         if (RhVersionPattern.isRhVersion(preferredVersion)) {
-            final ArtifactVersion preferredAv = new DefaultArtifactVersion(
+            final ArtifactVersion preferredAv = ArtifactVersionCache.get(
                     RhVersionPattern.ensureNoRhQualifier(preferredVersion));
-            final ArtifactVersion currentAv = new DefaultArtifactVersion(currentVersion);
+            final ArtifactVersion currentAv = ArtifactVersionCache.get(currentVersion);
             // qualifiers aren't parsed correctly when the micro version isn't present,
             // so we can't use equals reliably to compare them
             final String preferredQualifier = preferredAv.getQualifier() == null ? "null" : preferredAv.getQualifier();
@@ -884,8 +993,8 @@ public class PlatformBomComposer implements DecomposedBomTransformer, Decomposed
         for (ProjectRelease release : releases) {
             for (String versionStr : release.artifactVersions()) {
                 final ScmRevision prevReleaseId = treeMap.put(versionStr, release.id());
-                if (prevReleaseId != null && new DefaultArtifactVersion(prevReleaseId.getValue())
-                        .compareTo(new DefaultArtifactVersion(release.id().getValue())) > 0) {
+                if (prevReleaseId != null
+                        && ArtifactVersionCache.compare(prevReleaseId.getValue(), release.id().getValue()) > 0) {
                     treeMap.put(versionStr, prevReleaseId);
                 }
             }
@@ -4,6 +4,7 @@ import io.quarkus.bom.PomResolver;
 import io.quarkus.bom.resolver.ArtifactResolver;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -103,6 +104,20 @@ public class PlatformBomConfig {
             return this;
         }
 
+        public Builder decompositionCacheDir(Path decompositionCacheDir) {
+            config.decompositionCacheDir = decompositionCacheDir;
+            return this;
+        }
+
+        public Builder decompositionParallelism(int decompositionParallelism) {
+            if (decompositionParallelism < 1) {
+                throw new IllegalArgumentException(
+                        "Decomposition parallelism must be a positive number: " + decompositionParallelism);
+            }
+            config.decompositionParallelism = decompositionParallelism;
+            return this;
+        }
+
         public PlatformBomConfig build() {
             Objects.requireNonNull(config.bomResolver);
             if (config.bomArtifact == null) {
@@ -134,6 +149,8 @@ public class PlatformBomConfig {
             | ForeignPreferredConstraint.ACCEPT_IF_COMPATIBLE.flag());
     private boolean disableGroupAlignmentToPreferredVersions;
     private String versionIncrementor;
+    private Path decompositionCacheDir;
+    private int decompositionParallelism = Runtime.getRuntime().availableProcessors();
 
     private PlatformBomConfig() {
     }
@@ -198,6 +215,14 @@ public class PlatformBomConfig {
         return versionIncrementor;
     }
 
+    public Path decompositionCacheDir() {
+        return decompositionCacheDir;
+    }
+
+    public int decompositionParallelism() {
+        return decompositionParallelism;
+    }
+
     boolean excluded(ArtifactKey key) {
         Boolean wildcard = excluded.get(key);
         // if the key is found in the excluded set, it's excluded
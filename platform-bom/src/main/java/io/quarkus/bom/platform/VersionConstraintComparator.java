@@ -1,38 +1,53 @@
 package io.quarkus.bom.platform;
 
+import io.quarkus.bom.decomposer.ArtifactVersionCache;
 import io.quarkus.bom.decomposer.ProjectDependency;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 
 public class VersionConstraintComparator implements Comparator<String> {
 
-    private final Collection<Pattern> versionPreferences;
+    private final List<Pattern> versionPreferences;
+    /**
+     * Preference ranks of versions: the number of preferences minus the index of the first preference
+     * matching a version or 0, if a version does not match any preference
+     */
+    private final Map<String, Integer> preferenceRanks = new ConcurrentHashMap<>();
 
     public VersionConstraintComparator(Collection<Pattern> versionPreferences) {
-        this.versionPreferences = versionPreferences == null ? List.of() : versionPreferences;
+        this.versionPreferences = versionPreferences == null ? List.of() : List.copyOf(versionPreferences);
     }
 
     @Override
     public int compare(String v1, String v2) {
-        if (versionPreferences.isEmpty()) {
-            return new DefaultArtifactVersion(v1).compareTo(new DefaultArtifactVersion(v2));
+        if (!versionPreferences.isEmpty()) {
+            final int rank1 = getPreferenceRank(v1);
+            final int rank2 = getPreferenceRank(v2);
+            if (rank1 != rank2) {
+                return rank1 > rank2 ? 1 : -1;
+            }
         }
-        for (Pattern preference : versionPreferences) {
-            if (preference.matcher(v1).matches()) {
-                if (preference.matcher(v2).matches()) {
-                    return new DefaultArtifactVersion(v1).compareTo(new DefaultArtifactVersion(v2));
+        return ArtifactVersionCache.compare(v1, v2);
+    }
+
+    private int getPreferenceRank(String version) {
+        Integer rank = preferenceRanks.get(version);
+        if (rank == null) {
+            rank = 0;
+            for (int i = 0; i < versionPreferences.size(); ++i) {
+                if (versionPreferences.get(i).matcher(version).matches()) {
+                    rank = versionPreferences.size() - i;
+                    break;
                 }
-                return 1;
-            }
-            if (preference.matcher(v2).matches()) {
-                return -1;
             }
+            preferenceRanks.put(version, rank);
         }
-        return new DefaultArtifactVersion(v1).compareTo(new DefaultArtifactVersion(v2));
+        return rank;
     }
 
     public boolean hasVersionPreferences() {
@@ -44,18 +59,10 @@ public class VersionConstraintComparator implements Comparator<String> {
     }
 
     public boolean isPreferredVersion(String version) {
-        return isPreferredVersion(new DefaultArtifactVersion(version));
+        return !versionPreferences.isEmpty() && getPreferenceRank(version) > 0;
     }
 
     public boolean isPreferredVersion(ArtifactVersion v) {
-        if (versionPreferences.isEmpty()) {
-            return false;
-        }
-        for (Pattern preference : versionPreferences) {
-            if (preference.matcher(v.toString()).matches()) {
-                return true;
-            }
-        }
-        return false;
+        return isPreferredVersion(v.toString());
     }
 }